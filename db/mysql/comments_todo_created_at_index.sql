@@ -0,0 +1,5 @@
+-- 기존 MySQL 데이터베이스에 적용합니다. 새로 만드는 스키마는 Comment 엔티티의 @Index 로 생성됩니다.
+-- 댓글 목록의 키셋 페이지 조회
+--   ... WHERE c.todo_id = ? AND (c.created_at > ? OR (c.created_at = ? AND c.id > ?)) ORDER BY c.created_at, c.id
+-- 가 일정의 댓글 전체를 정렬하는 대신 인덱스 범위에서 페이지 크기만큼만 읽도록 합니다.
+CREATE INDEX idx_comments_todo_id_created_at_id ON comments (todo_id, created_at, id);
@@ -0,0 +1,21 @@
+-- todos, comments, managers 의 id 생성을 IDENTITY 에서 pooled sequence(allocationSize 50)로 바꾼 뒤,
+-- 기존 MySQL 데이터베이스에 처음 배포하기 전에 애플리케이션을 모두 내린 상태에서 한 번 실행합니다.
+--
+-- MySQL 에는 sequence 가 없으므로 Hibernate 는 *_seq 테이블의 next_val 한 행으로 sequence 를 흉내 냅니다.
+-- ddl-auto 로 만들어진 *_seq 테이블은 1 부터 시작하므로, 그대로 두면 첫 insert 가 기존 id 와 충돌합니다.
+-- pooled optimizer 는 next_val 값 N 을 받아 N - 49 .. N 을 할당하므로 MAX(id) + 50 으로 맞춥니다.
+--
+-- batch insert 가 실제로 multi-row INSERT 로 전송되려면 JDBC URL 에 rewriteBatchedStatements=true 가 필요합니다.
+-- users 는 bulk insert 대상이 아니므로 IDENTITY 를 그대로 사용하며 이 스크립트의 대상이 아닙니다.
+
+CREATE TABLE IF NOT EXISTS todos_seq (next_val BIGINT);
+DELETE FROM todos_seq;
+INSERT INTO todos_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM todos;
+
+CREATE TABLE IF NOT EXISTS comments_seq (next_val BIGINT);
+DELETE FROM comments_seq;
+INSERT INTO comments_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM comments;
+
+CREATE TABLE IF NOT EXISTS managers_seq (next_val BIGINT);
+DELETE FROM managers_seq;
+INSERT INTO managers_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM managers;
@@ -0,0 +1,5 @@
+-- 기존 MySQL 데이터베이스에 적용합니다. 새로 만드는 스키마는 Todo 엔티티의 @Index 로 생성됩니다.
+-- GET /todos/cursor 의 키셋 페이지 조회
+--   ... WHERE t.modified_at < ? OR (t.modified_at = ? AND t.id < ?) ORDER BY t.modified_at DESC, t.id DESC
+-- 가 정렬 없이 인덱스를 역순으로 읽고 페이지 크기만큼만 읽도록 합니다. 변경 피드도 같은 인덱스를 정순으로 읽습니다.
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at, id);
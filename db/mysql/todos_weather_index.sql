@@ -0,0 +1,5 @@
+-- 기존 MySQL 데이터베이스에 적용합니다. 새로 만드는 스키마는 Todo 엔티티의 @Index 로 생성됩니다.
+-- TodoWeatherEnricher 가 todo.weather.flush-interval 마다 실행하는
+--   SELECT id FROM todos WHERE weather = 'PENDING' AND deleted_at IS NULL ORDER BY id LIMIT ?
+-- 가 전체 스캔 대신 인덱스 범위만 읽도록 합니다.
+CREATE INDEX idx_todos_weather_id ON todos (weather, id);
@@ -4,6 +4,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
+import java.util.Map;
+
 import static org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO;
 
 @SpringBootApplication
@@ -11,7 +13,14 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
 public class ExpertApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ExpertApplication.class, args);
+        SpringApplication application = new SpringApplication(ExpertApplication.class);
+        // 설정 파일이 없으므로 기본값을 여기서 지정합니다. 환경 변수나 실행 인자로 덮어쓸 수 있습니다.
+        // actuator 는 JwtFilter 가 없는 별도 포트로 띄우고, 이 포트는 내부망에만 열어 둡니다.
+        application.setDefaultProperties(Map.of(
+                "management.endpoints.web.exposure.include", "health,prometheus",
+                "management.server.port", "8081"
+        ));
+        application.run(args);
     }
 
 }
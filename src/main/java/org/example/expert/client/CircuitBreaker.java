@@ -0,0 +1,80 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 연속 실패가 failureThreshold 에 도달하면 openDuration 동안 호출을 즉시 차단하고,
+ * 이후 한 번의 시험 호출(HALF_OPEN)이 성공하면 다시 호출을 허용한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInProgress;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            // HALF_OPEN 상태에서는 한 번에 하나의 시험 호출만 허용한다.
+            if (trialInProgress) {
+                throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+            }
+            trialInProgress = true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInProgress = false;
+    }
+
+    private synchronized void onFailure() {
+        trialInProgress = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+}
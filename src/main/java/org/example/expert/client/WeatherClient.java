@@ -1,30 +1,192 @@
 package org.example.expert.client;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+@Slf4j
 @Component
+@EnableConfigurationProperties(WeatherProperties.class)
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final CloseableHttpClient httpClient;
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final WeatherProperties properties;
+
+    // 날짜(MM-dd) -> 날씨 스냅샷. 하루에 한 번 바뀌는 데이터이므로 매 요청마다 원격 API 를 호출하지 않는다.
+    private volatile WeatherSnapshot snapshot;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder callFailureCount = new LongAdder();
+    private final LongAdder totalCallLatencyNanos = new LongAdder();
+    private final AtomicLong maxCallLatencyNanos = new AtomicLong();
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    public WeatherClient(RestTemplateBuilder builder, WeatherProperties properties) {
+        this.httpClient = createHttpClient(properties.getApi());
+        this.restTemplate = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getCircuitBreaker().getFailureThreshold(),
+                properties.getCircuitBreaker().getOpenDuration()
+        );
+        this.properties = properties;
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        String today = getCurrentDate();
+
+        WeatherSnapshot current = snapshot;
+        if (current != null && current.contains(today)) {
+            // stale-while-revalidate: 오래된 스냅샷은 그대로 응답하고 갱신은 백그라운드에서 진행한다.
+            if (current.isOlderThan(properties.getSnapshot().getMaxAge())) {
+                refreshAsync();
+            }
+            return current.get(today);
+        }
+
+        // 스냅샷이 없거나 오늘 날짜가 없는 경우에만 원격 API 응답을 기다린다.
+        String weather;
+        try {
+            weather = refreshIfMissing(today).get(today);
+        } catch (RuntimeException e) {
+            if (!StringUtils.hasText(properties.getFallback())) {
+                throw e;
+            }
+            log.warn("날씨 데이터를 가져오지 못해 기본값({})을 사용합니다.", properties.getFallback(), e);
+            return properties.getFallback();
+        }
+
+        if (weather == null) {
+            if (StringUtils.hasText(properties.getFallback())) {
+                return properties.getFallback();
+            }
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    @Scheduled(fixedDelayString = "${weather.snapshot.refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    // 자정에 날짜가 바뀌면 새 날짜 기준으로 스냅샷을 다시 받아온다.
+    @Scheduled(cron = "0 0 0 * * *")
+    public void midnightRefresh() {
+        refreshQuietly();
+    }
+
+    public Duration getSnapshotAge() {
+        WeatherSnapshot current = snapshot;
+        return current == null ? null : Duration.between(current.fetchedAt, Instant.now());
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    public long getCallFailureCount() {
+        return callFailureCount.sum();
+    }
+
+    public Duration getAverageCallLatency() {
+        long count = callCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalCallLatencyNanos.sum() / count);
+    }
+
+    public Duration getMaxCallLatency() {
+        return Duration.ofNanos(maxCallLatencyNanos.get());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private synchronized WeatherSnapshot refreshIfMissing(String date) {
+        // 다른 스레드가 먼저 갱신했다면 다시 호출하지 않는다.
+        WeatherSnapshot current = snapshot;
+        if (current != null && current.contains(date)) {
+            return current;
+        }
+        return refresh();
+    }
+
+    private synchronized WeatherSnapshot refresh() {
+        try {
+            WeatherSnapshot fetched = new WeatherSnapshot(fetchWeather(), Instant.now());
+            snapshot = fetched;
+            return fetched;
+        } catch (RuntimeException e) {
+            refreshFailureCount.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(this::refreshQuietly)
+                .whenComplete((result, e) -> refreshing.set(false));
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("날씨 스냅샷 갱신에 실패했습니다. 기존 스냅샷을 계속 사용합니다. (실패 횟수={})", refreshFailureCount.get(), e);
+        }
+    }
+
+    private Map<String, String> fetchWeather() {
+        ResponseEntity<WeatherDto[]> responseEntity = circuitBreaker.execute(this::callWeatherApi);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -35,28 +197,84 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
             }
         }
+        return weatherByDate;
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private ResponseEntity<WeatherDto[]> callWeatherApi() {
+        long start = System.nanoTime();
+        try {
+            return restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        } catch (RuntimeException e) {
+            callFailureCount.increment();
+            throw e;
+        } finally {
+            long latency = System.nanoTime() - start;
+            callCount.increment();
+            totalCallLatencyNanos.add(latency);
+            maxCallLatencyNanos.accumulateAndGet(latency, Math::max);
+        }
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(properties.getApi().getUrl())
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
+    // keep-alive 커넥션을 재사용하고, 연결/응답 대기 시간을 제한한다.
+    private static CloseableHttpClient createHttpClient(WeatherProperties.Api api) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(api.getMaxConnections())
+                .setMaxConnPerRoute(api.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(api.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(api.getReadTimeout()))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(api.getConnectTimeout()))
+                        .setResponseTimeout(Timeout.of(api.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(DATE_FORMATTER);
+    }
+
+    private static final class WeatherSnapshot {
+
+        private final Map<String, String> weatherByDate;
+        private final Instant fetchedAt;
+
+        private WeatherSnapshot(Map<String, String> weatherByDate, Instant fetchedAt) {
+            this.weatherByDate = Map.copyOf(weatherByDate);
+            this.fetchedAt = fetchedAt;
+        }
+
+        private boolean contains(String date) {
+            return weatherByDate.containsKey(date);
+        }
+
+        private String get(String date) {
+            return weatherByDate.get(date);
+        }
+
+        private boolean isOlderThan(Duration maxAge) {
+            return fetchedAt.plus(maxAge).isBefore(Instant.now());
+        }
     }
 }
@@ -0,0 +1,46 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather")
+public class WeatherProperties {
+
+    private final Api api = new Api();
+    private final Snapshot snapshot = new Snapshot();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    // 원격 API 를 사용할 수 없을 때 대신 사용할 날씨. 비어 있으면 예외가 그대로 전파된다.
+    private String fallback;
+
+    @Getter
+    @Setter
+    public static class Api {
+
+        private String url = "https://f-api.github.io";
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration readTimeout = Duration.ofSeconds(2);
+        private int maxConnections = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        private Duration maxAge = Duration.ofHours(6);
+        private Duration refreshInterval = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
@@ -1,9 +1,7 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -11,43 +9,55 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
-import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.WebUtils;
 
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
-@Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AdminAccessLogAspect {
 
-    private final ObjectMapper objectMapper;
+    private final AdminAuditLogger adminAuditLogger;
 
     @Pointcut("within(org.example.expert.domain.*.controller.*AdminController)")
     public void allAdminController() {}
 
-    @Around("allAdminController()")
-    public Object logAdminRequest(ProceedingJoinPoint joinPoint) throws Throwable {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        Long userId = (Long) request.getAttribute("userId");
-        String requestURI = request.getRequestURI();
-        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-        log.info("[ADMIN] (userId={}) uri={}, time={}", userId, requestURI, now);
-
-        if (request instanceof ContentCachingRequestWrapper) {
-            ContentCachingRequestWrapper requestWrapper = (ContentCachingRequestWrapper) request;
-            String requestBody = new String(requestWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
-            String formattedRequestBody = objectMapper.writeValueAsString(objectMapper.readTree(requestBody));
-            log.info("[ADMIN] (userId={}) requestBody={}", userId, formattedRequestBody);
-        }
+    @Pointcut("within(org.example.expert.domain.audit.controller.AuditAdminController)")
+    public void auditAdminController() {}
 
-        Object result = joinPoint.proceed();
+    /**
+     * 요청 스레드에서는 원본 값만 캡처해 AdminAuditLogger 에 넘기고, 포맷팅과 직렬화는 consumer 스레드에 맡깁니다.
+     * 요청 본문은 컨트롤러가 읽은 뒤에야 캐시되므로 proceed 이후에 가져옵니다.
+     */
+    @Around("allAdminController() && !auditAdminController()")
+    public Object logAdminRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedAndPublish(joinPoint, true);
+    }
 
-        String responseBody = objectMapper.writeValueAsString(result);
-        log.info("[ADMIN] (userId={}) responseBody={}", userId, responseBody);
+    // 감사 로그 조회 응답을 다시 기록하면 조회할 때마다 이전 기록이 복사되어 저장소가 계속 커지므로, 조회 사실만 남깁니다.
+    @Around("auditAdminController()")
+    public Object logAuditLogRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedAndPublish(joinPoint, false);
+    }
 
-        return result;
+    private Object proceedAndPublish(ProceedingJoinPoint joinPoint, boolean withResponseBody) throws Throwable {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        long timestamp = System.currentTimeMillis();
+
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            // 캡처 버퍼는 요청이 끝나면 풀로 돌아가므로 consumer 에는 getCapturedBody 의 복사본을 넘깁니다.
+            BodyCaptureRequestWrapper requestWrapper = WebUtils.getNativeRequest(request, BodyCaptureRequestWrapper.class);
+            adminAuditLogger.publish(new AdminAuditEvent(
+                    (Long) request.getAttribute("userId"),
+                    request.getRequestURI(),
+                    timestamp,
+                    requestWrapper != null ? requestWrapper.getCapturedBody() : null,
+                    requestWrapper != null ? requestWrapper.getTotalLength() : 0,
+                    withResponseBody ? result : null
+            ));
+        }
     }
 }
@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+
+/**
+ * 요청 스레드에서 가공 없이 캡처한 관리자 요청 기록. 포맷팅과 직렬화는 AdminAuditLogger 의 consumer 스레드가 합니다.
+ */
+@Getter
+public class AdminAuditEvent {
+
+    private final Long userId;
+    private final String requestURI;
+    private final long timestamp; // epoch millis
+    private final byte[] requestBody; // 캡처 상한까지의 앞부분
+    private final long requestBodyLength; // 실제로 읽힌 본문 전체 크기
+    private final Object responseBody; // 예외로 끝난 요청이면 null
+
+    public AdminAuditEvent(Long userId, String requestURI, long timestamp, byte[] requestBody, long requestBodyLength, Object responseBody) {
+        this.userId = userId;
+        this.requestURI = requestURI;
+        this.timestamp = timestamp;
+        this.requestBody = requestBody;
+        this.requestBodyLength = requestBodyLength;
+        this.responseBody = responseBody;
+    }
+
+    public boolean isRequestBodyTruncated() {
+        return requestBody != null && requestBodyLength > requestBody.length;
+    }
+}
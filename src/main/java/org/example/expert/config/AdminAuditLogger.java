@@ -0,0 +1,247 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.entity.AuditEntry;
+import org.example.expert.domain.audit.repository.AuditLogStore;
+import org.example.expert.domain.common.concurrent.BoundedRingBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 요청 기록을 ring buffer 에 담아 두고 전용 consumer 스레드가 batchSize 건씩 꺼내 포맷팅한 뒤 한 번에 기록합니다.
+ * 요청 스레드는 offer 한 번만 수행하므로 감사 로그 직렬화 비용이 관리자 API 응답 시간에 포함되지 않습니다.
+ * 한 batch 는 AuditLogStore 에 한 번의 group commit 으로 저장되고, 애플리케이션 로그에도 함께 남습니다.
+ */
+@Slf4j
+@Component
+public class AdminAuditLogger {
+
+    public enum OverflowPolicy {
+        DROP,        // 버퍼가 가득 차면 기록을 버리고 droppedCount 를 올립니다.
+        CALLER_RUNS  // 버퍼가 가득 차면 요청 스레드에서 직접 기록해 요청 속도를 늦춥니다.
+    }
+
+    public static final String TRUNCATED_MARKER = "...[truncated]";
+
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final ObjectMapper objectMapper;
+    private final AuditLogStore auditLogStore;
+    private final BoundedRingBuffer<AdminAuditEvent> buffer;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long idleWaitNanos;
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder callerRunsCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder storeFailureCount = new LongAdder();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public AdminAuditLogger(
+            ObjectMapper objectMapper,
+            AuditLogStore auditLogStore,
+            @Value("${admin.audit.capacity:8192}") int capacity,
+            @Value("${admin.audit.batch-size:256}") int batchSize,
+            @Value("${admin.audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${admin.audit.idle-wait:PT0.01S}") Duration idleWait
+    ) {
+        this.objectMapper = objectMapper;
+        this.auditLogStore = auditLogStore;
+        this.buffer = new BoundedRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.idleWaitNanos = idleWait.toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer = new Thread(this::consume, "admin-audit-logger");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    // 종료 시 버퍼에 남은 기록을 모두 쓴 뒤 consumer 를 멈춥니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public void publish(AdminAuditEvent event) {
+        publishedCount.increment();
+        if (buffer.offer(event)) {
+            maxQueueDepth.accumulateAndGet(buffer.size(), Math::max);
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            callerRunsCount.increment();
+            write(List.of(event));
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * 버퍼에서 최대 batchSize 건을 꺼내 기록하고 꺼낸 건수를 반환합니다.
+     */
+    int drain() {
+        List<AdminAuditEvent> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+        AdminAuditEvent event;
+        while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+            batch.add(event);
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        return batch.size();
+    }
+
+    AuditEntry toEntry(AdminAuditEvent event) {
+        byte[] requestBody = event.getRequestBody();
+        return new AuditEntry(
+                event.getTimestamp(),
+                event.getUserId(),
+                event.getRequestURI(),
+                requestBody != null && requestBody.length > 0 ? formatRequestBody(event) : null,
+                event.getResponseBody() != null ? formatResponseBody(event.getResponseBody()) : null
+        );
+    }
+
+    String format(AuditEntry entry) {
+        StringBuilder line = new StringBuilder(128)
+                .append("[ADMIN] (userId=").append(entry.getUserId()).append(") uri=").append(entry.getRequestURI())
+                .append(", time=").append(TIME_FORMATTER.format(Instant.ofEpochMilli(entry.getTimestamp())));
+        if (entry.getRequestBody() != null) {
+            line.append(", requestBody=").append(entry.getRequestBody());
+        }
+        if (entry.getResponseBody() != null) {
+            line.append(", responseBody=").append(entry.getResponseBody());
+        }
+        return line.toString();
+    }
+
+    private void consume() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(idleWaitNanos);
+                }
+            } catch (RuntimeException e) {
+                log.warn("관리자 감사 로그 기록에 실패했습니다.", e);
+            }
+        }
+    }
+
+    // 한 batch 를 저장소에 한 번에 쓰고, 애플리케이션 로그에는 줄바꿈으로 이어 한 번의 log 호출로 기록합니다.
+    private void write(List<AdminAuditEvent> batch) {
+        List<AuditEntry> entries = new ArrayList<>(batch.size());
+        StringBuilder lines = new StringBuilder(batch.size() * 128);
+        for (AdminAuditEvent event : batch) {
+            AuditEntry entry = toEntry(event);
+            entries.add(entry);
+            if (!lines.isEmpty()) {
+                lines.append(System.lineSeparator());
+            }
+            lines.append(format(entry));
+        }
+        log.info(lines.toString());
+
+        try {
+            auditLogStore.append(entries);
+        } catch (IOException e) {
+            storeFailureCount.add(entries.size());
+            log.error("감사 로그 저장소에 기록하지 못했습니다. count={}", entries.size(), e);
+        }
+        writtenCount.add(batch.size());
+        batchCount.increment();
+    }
+
+    /**
+     * JSON 이면 공백을 제거한 한 줄로, 아니면 원문 그대로 기록합니다.
+     * 캡처 상한에서 잘린 본문은 JSON 으로 읽을 수 없으므로 앞부분 원문 뒤에 TRUNCATED_MARKER 와 전체 크기를 붙입니다.
+     */
+    private String formatRequestBody(AdminAuditEvent event) {
+        byte[] requestBody = event.getRequestBody();
+        if (event.isRequestBodyTruncated()) {
+            return new String(requestBody, StandardCharsets.UTF_8)
+                    + TRUNCATED_MARKER + "(captured=" + requestBody.length + ", total=" + event.getRequestBodyLength() + ")";
+        }
+        try {
+            return objectMapper.writeValueAsString(objectMapper.readTree(requestBody));
+        } catch (IOException e) {
+            return new String(requestBody, StandardCharsets.UTF_8);
+        }
+    }
+
+    private String formatResponseBody(Object responseBody) {
+        try {
+            return objectMapper.writeValueAsString(responseBody);
+        } catch (JsonProcessingException e) {
+            return "<직렬화 실패: " + responseBody.getClass().getSimpleName() + ">";
+        }
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public int getQueueCapacity() {
+        return buffer.capacity();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRunsCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getStoreFailureCount() {
+        return storeFailureCount.sum();
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.expert.config;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 컨트롤러가 읽는 요청 본문을 풀에서 빌린 고정 크기 버퍼에 최대 버퍼 크기만큼만 복사해 두는 wrapper.
+ * ContentCachingRequestWrapper 와 달리 본문 전체를 복제하지 않으므로 큰 업로드도 캡처 상한 이상의 힙을 쓰지 않습니다.
+ * 상한을 넘은 본문은 앞부분만 남기고 isTruncated 로 표시합니다.
+ */
+public class BodyCaptureRequestWrapper extends HttpServletRequestWrapper {
+
+    private final RequestBodyBufferPool bufferPool;
+    private byte[] buffer;
+    private int capturedLength;
+    private long totalLength;
+
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    public BodyCaptureRequestWrapper(HttpServletRequest request, RequestBodyBufferPool bufferPool) {
+        super(request);
+        this.bufferPool = bufferPool;
+        this.buffer = bufferPool.acquire();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(getRequest().getInputStream());
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    /**
+     * 캡처한 본문의 복사본. 버퍼는 요청이 끝나면 풀로 돌아가 재사용되므로 요청 이후에도 쓰려면 이 복사본을 사용해야 합니다.
+     */
+    public byte[] getCapturedBody() {
+        return buffer == null ? new byte[0] : Arrays.copyOf(buffer, capturedLength);
+    }
+
+    // 컨트롤러가 실제로 읽은 본문 크기. 끝까지 읽지 않은 본문은 읽은 만큼만 집계됩니다.
+    public long getTotalLength() {
+        return totalLength;
+    }
+
+    public boolean isTruncated() {
+        return totalLength > capturedLength;
+    }
+
+    void release() {
+        if (buffer != null) {
+            bufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        totalLength += length;
+        if (buffer == null) {
+            return;
+        }
+        int copy = Math.min(length, buffer.length - capturedLength);
+        if (copy > 0) {
+            System.arraycopy(bytes, offset, buffer, capturedLength, copy);
+            capturedLength += copy;
+        }
+    }
+
+    private class CapturingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+
+        private CapturingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value >= 0) {
+                capture(new byte[]{(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = delegate.read(bytes, offset, length);
+            if (read > 0) {
+                capture(bytes, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
@@ -4,15 +4,23 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import java.io.IOException;
 
+@RequiredArgsConstructor
 public class CachingRequestFilter extends OncePerRequestFilter {
+
+    private final RequestBodyBufferPool bufferPool;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        filterChain.doFilter(requestWrapper, response);
+        BodyCaptureRequestWrapper requestWrapper = new BodyCaptureRequestWrapper(request, bufferPool);
+        try {
+            filterChain.doFilter(requestWrapper, response);
+        } finally {
+            requestWrapper.release();
+        }
     }
 }
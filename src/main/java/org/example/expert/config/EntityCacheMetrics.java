@@ -0,0 +1,44 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 2차 캐시 region 별 hit/miss 와 hit ratio.
+ */
+@Component
+public class EntityCacheMetrics {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public long getHitCount(String region) {
+        CacheRegionStatistics statistics = getStatistics(region);
+        return statistics == null ? 0 : statistics.getHitCount();
+    }
+
+    public long getMissCount(String region) {
+        CacheRegionStatistics statistics = getStatistics(region);
+        return statistics == null ? 0 : statistics.getMissCount();
+    }
+
+    public double getHitRatio(String region) {
+        long hits = getHitCount(region);
+        long total = hits + getMissCount(region);
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    // 2차 캐시나 통계가 비활성화된 경우 null 을 반환합니다.
+    private CacheRegionStatistics getStatistics(String region) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        if (!sessionFactory.getStatistics().isStatisticsEnabled()) {
+            return null;
+        }
+        return sessionFactory.getStatistics().getDomainDataRegionStatistics(region);
+    }
+}
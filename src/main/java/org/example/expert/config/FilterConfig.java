@@ -1,6 +1,8 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,11 +12,13 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
+    private final RequestBodyBufferPool requestBodyBufferPool;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, jwtTokenCache));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
         registrationBean.setOrder(1);
         return registrationBean;
@@ -23,9 +27,21 @@ public class FilterConfig {
     @Bean
     public FilterRegistrationBean<CachingRequestFilter> cachingRequestFilter() {
         FilterRegistrationBean<CachingRequestFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new CachingRequestFilter());
+        registrationBean.setFilter(new CachingRequestFilter(requestBodyBufferPool));
         registrationBean.addUrlPatterns("/admin/*");
         registrationBean.setOrder(2);
         return registrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql.statement.warn-threshold:10}") int warnThreshold
+    ) {
+        FilterRegistrationBean<SqlStatementFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlStatementFilter(meterRegistry, warnThreshold));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(0);
+        return registrationBean;
+    }
 }
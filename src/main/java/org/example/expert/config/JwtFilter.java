@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -10,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
@@ -19,6 +19,7 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -32,7 +33,9 @@ public class JwtFilter implements Filter {
 
         String url = httpRequest.getRequestURI();
 
-        if (url.startsWith("/auth")) {
+        // Prometheus 는 management.server.port 의 내부 포트에서 토큰 없이 수집합니다.
+        // 같은 포트로 노출되는 경우에도 health 외의 /actuator 는 토큰을 요구합니다.
+        if (url.startsWith("/auth") || url.equals("/actuator/health")) {
             chain.doFilter(request, response);
             return;
         }
@@ -48,18 +51,21 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
+            // 이미 검증한 토큰이면 캐시된 AuthUser 를 사용합니다.
+            AuthUser authUser = jwtTokenCache.get(jwt);
+
+            if (authUser == null) {
+                // JWT 유효성 검사와 claims 추출
+                VerifiedToken verifiedToken = jwtUtil.verifyToken(jwt);
+                authUser = verifiedToken.toAuthUser();
+                jwtTokenCache.put(jwt, authUser, verifiedToken.getExpiresAt());
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = authUser.getUserRole();
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute("userId", authUser.getId());
+            httpRequest.setAttribute("email", authUser.getEmail());
+            httpRequest.setAttribute("userRole", userRole.name());
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
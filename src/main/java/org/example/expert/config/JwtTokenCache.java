@@ -0,0 +1,135 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 JWT 를 만료 시각까지 보관하는 캐시.
+ * 같은 토큰이 반복해서 들어오면 HMAC 재계산과 claims 파싱 없이 AuthUser 를 돌려준다.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        // access-order LinkedHashMap 으로 가장 오래 사용되지 않은 토큰부터 밀어낸다.
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public AuthUser get(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                // 만료된 토큰은 캐시에서 제거하고 원래 검증 경로에서 만료 예외가 발생하도록 한다.
+                entries.remove(key);
+                evictionCount.increment();
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.authUser;
+        }
+    }
+
+    public void put(String token, AuthUser authUser, long expiresAt) {
+        if (maxSize <= 0 || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        String key = digest(token);
+
+        synchronized (entries) {
+            entries.put(key, new Entry(authUser, expiresAt));
+            if (entries.size() > maxSize) {
+                evictExpired();
+            }
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    // 토큰 원문 대신 SHA-256 digest 를 key 로 사용해 메모리에 토큰이 그대로 남지 않도록 한다.
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+
+    private static final class Entry {
+
+        private final AuthUser authUser;
+        private final long expiresAt;
+
+        private Entry(AuthUser authUser, long expiresAt) {
+            this.authUser = authUser;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
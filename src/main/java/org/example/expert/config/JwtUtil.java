@@ -1,9 +1,19 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
@@ -12,7 +22,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
+import java.security.MessageDigest;
 import java.util.Base64;
 import java.util.Date;
 
@@ -28,10 +43,20 @@ public class JwtUtil {
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // JwtParser 는 thread-safe 하므로 한 번만 생성해서 재사용합니다.
+    private JwtParser jwtParser;
+    // Mac 은 thread-safe 하지 않으므로 스레드마다 초기화된 인스턴스를 재사용합니다.
+    private ThreadLocal<Mac> macHolder;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        macHolder = ThreadLocal.withInitial(this::createMac);
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -56,10 +81,114 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    /**
+     * HS256 서명을 직접 검증하고 sub, email, userRole, exp claim 만 읽어옵니다.
+     * jjwt 의 Map 기반 claims 모델을 거치지 않으며, 실패 시 jjwt 와 같은 예외를 던집니다.
+     */
+    @Timed("jwt.verification")
+    public VerifiedToken verifyToken(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new MalformedJwtException("JWT 형식이 올바르지 않습니다.");
+        }
+
+        byte[] header = decodeSegment(token, 0, headerEnd);
+        if (!signatureAlgorithm.getValue().equals(readAlgorithm(header))) {
+            throw new UnsupportedJwtException("지원되지 않는 JWT 서명 알고리즘입니다.");
+        }
+
+        byte[] signature = decodeSegment(token, payloadEnd + 1, token.length());
+        Mac mac = macHolder.get();
+        mac.update(token.getBytes(StandardCharsets.US_ASCII), 0, payloadEnd);
+        if (!MessageDigest.isEqual(mac.doFinal(), signature)) {
+            throw new SignatureException("JWT 서명이 일치하지 않습니다.");
+        }
+
+        VerifiedToken verifiedToken = readClaims(decodeSegment(token, headerEnd + 1, payloadEnd));
+        if (verifiedToken.getExpiresAt() < System.currentTimeMillis()) {
+            throw new ExpiredJwtException(null, null, "만료된 JWT 토큰입니다.");
+        }
+        return verifiedToken;
+    }
+
+    private String readAlgorithm(byte[] header) {
+        try (JsonParser parser = jsonFactory.createParser(header)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new MalformedJwtException("JWT header 형식이 올바르지 않습니다.");
+            }
+            String algorithm = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("alg".equals(field)) {
+                    algorithm = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return algorithm;
+        } catch (IOException e) {
+            throw new MalformedJwtException("JWT header 를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private VerifiedToken readClaims(byte[] payload) {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new MalformedJwtException("JWT payload 형식이 올바르지 않습니다.");
+            }
+            String subject = null;
+            String email = null;
+            String userRole = null;
+            long expiration = -1;
+            long notBefore = -1;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "sub" -> subject = parser.getValueAsString();
+                    case "email" -> email = parser.getValueAsString();
+                    case "userRole" -> userRole = parser.getValueAsString();
+                    case "exp" -> expiration = value.isNumeric() ? parser.getLongValue() : -1;
+                    case "nbf" -> notBefore = value.isNumeric() ? parser.getLongValue() : -1;
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (subject == null || userRole == null || expiration < 0) {
+                throw new MalformedJwtException("JWT 필수 claim 이 없습니다.");
+            }
+            if (notBefore >= 0 && notBefore * 1000 > System.currentTimeMillis()) {
+                throw new PrematureJwtException(null, null, "아직 유효하지 않은 JWT 토큰입니다.");
+            }
+            return new VerifiedToken(Long.parseLong(subject), email, UserRole.valueOf(userRole), expiration * 1000);
+        } catch (IOException e) {
+            throw new MalformedJwtException("JWT payload 를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private byte[] decodeSegment(String token, int start, int end) {
+        try {
+            return Base64.getUrlDecoder().decode(token.substring(start, end));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("JWT 를 Base64URL 로 디코딩할 수 없습니다.", e);
+        }
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(signatureAlgorithm.getJcaName());
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new ServerException("JWT 서명 검증기를 초기화할 수 없습니다.");
+        }
+    }
 }
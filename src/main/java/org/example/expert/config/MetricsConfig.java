@@ -0,0 +1,162 @@
+package org.example.expert.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.example.expert.client.CircuitBreaker;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.concurrent.SingleFlight;
+import org.example.expert.domain.todo.service.TodoPageCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * /actuator/prometheus 로 노출할 지연 분포와 hot path 지표를 등록합니다.
+ *
+ * 엔드포인트(http.server.requests), 외부 날씨 API 호출(http.client.requests), 커넥션 대기(hikaricp.connections.acquire),
+ * JWT 검증과 bcrypt 는 평균이 아니라 분포로 봐야 하므로 percentile histogram bucket 을 내보냅니다.
+ * p50/p99 는 Prometheus 에서 histogram_quantile 로 계산하므로 여러 인스턴스를 합쳐서 볼 수 있습니다.
+ * 캐시와 큐는 이미 각 컴포넌트가 세고 있는 값을 읽기만 하므로 요청 경로에 추가 비용이 없습니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final List<String> HISTOGRAM_METRICS = List.of(
+            "http.server.requests",
+            "http.client.requests",
+            "hikaricp.connections.acquire",
+            "jwt.verification",
+            "password.encoder"
+    );
+
+    // @Timed 를 붙인 메서드(JwtUtil.verifyToken, PasswordEncoder)를 측정합니다.
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_METRICS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder jwtTokenCacheMetrics(JwtTokenCache jwtTokenCache) {
+        return registry -> {
+            counter(registry, "jwt.token.cache.hits", jwtTokenCache, JwtTokenCache::getHitCount);
+            counter(registry, "jwt.token.cache.misses", jwtTokenCache, JwtTokenCache::getMissCount);
+            counter(registry, "jwt.token.cache.evictions", jwtTokenCache, JwtTokenCache::getEvictionCount);
+            gauge(registry, "jwt.token.cache.size", jwtTokenCache, JwtTokenCache::size);
+        };
+    }
+
+    @Bean
+    public MeterBinder weatherClientMetrics(WeatherClient weatherClient) {
+        return registry -> {
+            counter(registry, "weather.calls", weatherClient, WeatherClient::getCallCount);
+            counter(registry, "weather.call.failures", weatherClient, WeatherClient::getCallFailureCount);
+            counter(registry, "weather.refresh.failures", weatherClient, WeatherClient::getRefreshFailureCount);
+            gauge(registry, "weather.circuit.open", weatherClient,
+                    client -> client.getCircuitState() == CircuitBreaker.State.CLOSED ? 0 : 1);
+            // 스냅샷이 아직 없으면 NaN 으로 내보내 "오래된 값" 과 구분합니다.
+            Gauge.builder("weather.snapshot.age", weatherClient, client -> {
+                        Duration age = client.getSnapshotAge();
+                        return age == null ? Double.NaN : age.toMillis() / 1000.0;
+                    })
+                    .baseUnit("seconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetricsBinder(EntityCacheMetrics entityCacheMetrics) {
+        return registry -> {
+            for (String region : PersistenceConfig.ENTITY_CACHE_REGIONS) {
+                FunctionCounter.builder("entity.cache.hits", entityCacheMetrics, metrics -> metrics.getHitCount(region))
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("entity.cache.misses", entityCacheMetrics, metrics -> metrics.getMissCount(region))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder todoPageCacheMetrics(TodoPageCache todoPageCache) {
+        return registry -> {
+            counter(registry, "todo.page.cache.hits", todoPageCache, cache -> cache.getStatistics().values().stream()
+                    .mapToLong(TodoPageCache.KeyStatistics::getHitCount)
+                    .sum());
+            counter(registry, "todo.page.cache.misses", todoPageCache, cache -> cache.getStatistics().values().stream()
+                    .mapToLong(TodoPageCache.KeyStatistics::getMissCount)
+                    .sum());
+            gauge(registry, "todo.page.cache.size", todoPageCache, TodoPageCache::size);
+        };
+    }
+
+    @Bean
+    public MeterBinder singleFlightMetrics(SingleFlight singleFlight) {
+        return registry -> {
+            counter(registry, "single.flight.loads", singleFlight, SingleFlight::getLoadCount);
+            counter(registry, "single.flight.shared", singleFlight, SingleFlight::getSharedCount);
+        };
+    }
+
+    // replica 를 쓰지 않는 환경에서는 ReplicaLagMonitor 가 없으므로 등록하지 않습니다.
+    @Bean
+    public MeterBinder replicaLagMetrics(ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        return registry -> replicaLagMonitor.ifAvailable(monitor -> {
+            gauge(registry, "replica.available", monitor, m -> m.isAvailable() ? 1 : 0);
+            Gauge.builder("replica.lag", monitor, m -> m.getLastLag().toMillis() / 1000.0)
+                    .baseUnit("seconds")
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder adminAuditMetrics(AdminAuditLogger adminAuditLogger, RequestBodyBufferPool requestBodyBufferPool) {
+        return registry -> {
+            gauge(registry, "admin.audit.queue.depth", adminAuditLogger, AdminAuditLogger::getQueueDepth);
+            gauge(registry, "admin.audit.queue.capacity", adminAuditLogger, AdminAuditLogger::getQueueCapacity);
+            gauge(registry, "admin.audit.queue.max.depth", adminAuditLogger, AdminAuditLogger::getMaxQueueDepth);
+            counter(registry, "admin.audit.published", adminAuditLogger, AdminAuditLogger::getPublishedCount);
+            counter(registry, "admin.audit.dropped", adminAuditLogger, AdminAuditLogger::getDroppedCount);
+            counter(registry, "admin.audit.caller.runs", adminAuditLogger, AdminAuditLogger::getCallerRunsCount);
+            counter(registry, "admin.audit.written", adminAuditLogger, AdminAuditLogger::getWrittenCount);
+            counter(registry, "admin.audit.store.failures", adminAuditLogger, AdminAuditLogger::getStoreFailureCount);
+            gauge(registry, "admin.audit.body.pool.size", requestBodyBufferPool, RequestBodyBufferPool::getPooledCount);
+            counter(registry, "admin.audit.body.pool.reuses", requestBodyBufferPool, RequestBodyBufferPool::getReuseCount);
+            counter(registry, "admin.audit.body.pool.allocations", requestBodyBufferPool, RequestBodyBufferPool::getAllocationCount);
+        };
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T target, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, target, count).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).register(registry);
+    }
+}
@@ -1,15 +1,18 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PasswordEncoder {
 
+    @Timed(value = "password.encoder", extraTags = {"operation", "encode"})
     public String encode(String rawPassword) {
         return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
     }
 
+    @Timed(value = "password.encoder", extraTags = {"operation", "matches"})
     public boolean matches(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
@@ -1,9 +1,78 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    static final List<String> ENTITY_CACHE_REGIONS = List.of(User.CACHE_REGION, Todo.CACHE_REGION);
+
+    /*
+     * spring.jpa.properties.* 로 직접 지정한 값이 있으면 그 값을 우선합니다.
+     * MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 batch 가 multi-row INSERT 로 전송되고,
+     * 없으면 드라이버가 batch 를 한 건씩 나눠 보내 batching 효과가 없습니다.
+     * 기존 MySQL 데이터베이스는 db/mysql/id_sequences_seed.sql 로 *_seq 를 MAX(id) 위로 맞춘 뒤 배포해야 합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${persistence.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // 요청별 SQL 문 수와 DB 시간을 SqlStatementCounter 로 집계합니다.
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementListener.class.getName());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            // EntityCacheMetrics 의 region 별 hit/miss 집계에 필요합니다.
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+            // 통계를 켜면 세션마다 "Session Metrics" INFO 로그가 남으므로 끕니다. 요청별 SQL 집계는 SqlStatementFilter 가 합니다.
+            properties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    /**
+     * 2차 캐시 region 을 크기와 TTL 이 제한된 Caffeine 캐시로 미리 만들어 둡니다.
+     * 컨텍스트마다 별도의 provider 를 사용해 테스트 컨텍스트끼리 캐시를 공유하지 않습니다.
+     */
+    @Bean
+    public CacheManager entityCacheManager(
+            @Value("${persistence.cache.max-size:10000}") long maxSize,
+            @Value("${persistence.cache.ttl:PT10M}") Duration ttl
+    ) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : ENTITY_CACHE_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
 }
@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 replica 대신 primary 에서 읽어야 하는 구간을 표시한다.
+ * 조회 결과를 무효화 전까지 보관하거나, 방금 커밋된 쓰기를 놓치면 안 되는 조회를 감싸서 사용한다.
+ * replica 라우팅을 쓰지 않는 환경에서는 아무 효과가 없다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+        try {
+            return action.get();
+        } finally {
+            if (depth == null) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    static boolean isRequired() {
+        return DEPTH.get() != null;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 10;
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    private final Lag lag = new Lag();
+
+    @Getter
+    @Setter
+    public static class Lag {
+
+        // 복제 지연을 초 단위 숫자 하나로 반환하는 쿼리. 비어 있으면 연결 상태만 확인한다.
+        private String query;
+        // 복제 지연이 이 값을 넘으면 읽기 전용 트랜잭션도 primary 로 보낸다.
+        private Duration maxLag = Duration.ofSeconds(1);
+        private Duration checkInterval = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * replica 의 연결 상태와 복제 지연을 주기적으로 확인해 읽기 트래픽을 보내도 되는지 판단한다.
+ * 확인에 실패하거나 지연이 maxLag 를 넘으면 다음 확인까지 primary 로 읽는다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final ReplicaDataSourceProperties.Lag properties;
+
+    private volatile boolean available = true;
+    private volatile Duration lastLag = Duration.ZERO;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaDataSourceProperties.Lag properties) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag.check-interval:PT5S}")
+    public void check() {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (properties.getQuery() == null || properties.getQuery().isBlank()) {
+                available = connection.isValid(1);
+                return;
+            }
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(properties.getQuery())) {
+                Duration lag = resultSet.next()
+                        ? Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000))
+                        : Duration.ZERO;
+                lastLag = lag;
+                available = lag.compareTo(properties.getMaxLag()) <= 0;
+                if (!available) {
+                    log.warn("replica 복제 지연이 허용치를 넘었습니다. lag={}, maxLag={}", lag, properties.getMaxLag());
+                }
+            }
+        } catch (SQLException e) {
+            markUnavailable(e);
+        }
+    }
+
+    public void markUnavailable(SQLException e) {
+        if (available) {
+            log.warn("replica 를 사용할 수 없어 primary 로 읽습니다.", e);
+        }
+        available = false;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public Duration getLastLag() {
+        return lastLag;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보낸다. PrimaryReads 로 감싼 조회는 읽기 전용이어도 primary 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤 라우팅되도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final DataSource primaryDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !PrimaryReads.isRequired()
+                && replicaLagMonitor.isAvailable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primaryDataSource) {
+            return target.getConnection();
+        }
+
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            // replica 연결에 실패하면 요청을 실패시키지 않고 primary 로 읽는다.
+            replicaLagMonitor.markUnavailable(e);
+            return primaryDataSource.getConnection();
+        }
+    }
+}
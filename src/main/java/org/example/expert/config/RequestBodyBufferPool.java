@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.concurrent.BoundedRingBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 요청 본문 캡처용 고정 크기 버퍼 풀. 버퍼 크기가 곧 캡처 상한이며, 풀이 비면 새로 만들고 가득 차면 반납된 버퍼를 버립니다.
+ */
+@Component
+public class RequestBodyBufferPool {
+
+    private final int bufferSize;
+    private final BoundedRingBuffer<byte[]> buffers;
+
+    private final LongAdder reuseCount = new LongAdder();
+    private final LongAdder allocationCount = new LongAdder();
+
+    public RequestBodyBufferPool(
+            @Value("${admin.audit.body.max-bytes:8192}") int bufferSize,
+            @Value("${admin.audit.body.pool-size:64}") int poolSize
+    ) {
+        this.bufferSize = bufferSize;
+        this.buffers = new BoundedRingBuffer<>(poolSize);
+    }
+
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        if (buffer != null) {
+            reuseCount.increment();
+            return buffer;
+        }
+        allocationCount.increment();
+        return new byte[bufferSize];
+    }
+
+    // 반납된 버퍼는 다른 요청이 덮어쓰므로, 반납 이후에는 내용을 참조하면 안 됩니다.
+    public void release(byte[] buffer) {
+        if (buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getPooledCount() {
+        return buffers.size();
+    }
+
+    public long getReuseCount() {
+        return reuseCount.sum();
+    }
+
+    public long getAllocationCount() {
+        return allocationCount.sum();
+    }
+}
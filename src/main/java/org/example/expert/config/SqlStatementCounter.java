@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 스레드별로 실행된 SQL 문 수와 JDBC 실행 시간을 누적합니다.
+ * 값은 계속 누적되므로 구간을 재려면 시작 시점의 snapshot 을 떠 두고 since 로 차이를 구합니다.
+ * 요청 필터와 테스트가 같은 스레드에서 겹쳐 재더라도 서로의 값을 지우지 않습니다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private SqlStatementCounter() {
+    }
+
+    public static Snapshot snapshot() {
+        long[] counts = COUNTS.get();
+        return new Snapshot(counts[0], counts[1]);
+    }
+
+    static void statementPrepared() {
+        COUNTS.get()[0]++;
+    }
+
+    static void executed(long nanos) {
+        COUNTS.get()[1] += nanos;
+    }
+
+    @Getter
+    public static final class Snapshot {
+
+        private final long statementCount;
+        private final long executionNanos;
+
+        private Snapshot(long statementCount, long executionNanos) {
+            this.statementCount = statementCount;
+            this.executionNanos = executionNanos;
+        }
+
+        public Snapshot since(Snapshot start) {
+            return new Snapshot(statementCount - start.statementCount, executionNanos - start.executionNanos);
+        }
+
+        public Duration getExecutionTime() {
+            return Duration.ofNanos(executionNanos);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 SQL 문 수와 DB 시간을 엔드포인트별로 기록합니다.
+ * 지연 로딩 연관관계를 반복해서 건드리는 N+1 조회를 찾기 위해 warnThreshold 를 넘으면 경고를 남깁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Snapshot start = SqlStatementCounter.snapshot();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, SqlStatementCounter.snapshot().since(start));
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Snapshot statements) {
+        // http.server.requests 와 같은 uri 태그를 쓰도록 매핑된 URL 패턴을 사용합니다.
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statements.getStatementCount());
+        Timer.builder("http.server.requests.sql.time")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statements.getExecutionTime());
+
+        if (statements.getStatementCount() > warnThreshold) {
+            log.warn("요청 하나에서 SQL 이 {}건 실행되었습니다. N+1 조회인지 확인해 주세요. method={}, uri={}, dbTime={}ms",
+                    statements.getStatementCount(), method, request.getRequestURI(), statements.getExecutionTime().toMillis());
+        }
+    }
+}
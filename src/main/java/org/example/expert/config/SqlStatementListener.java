@@ -0,0 +1,44 @@
+package org.example.expert.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate 가 세션마다 생성하는 listener. 준비한 SQL 문 수와 JDBC 실행 시간을 SqlStatementCounter 에 더합니다.
+ * batch 는 PreparedStatement 하나를 여러 번 실행하므로 한 문장으로 셉니다.
+ */
+public class SqlStatementListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        SqlStatementCounter.statementPrepared();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executeEnd();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executeEnd();
+    }
+
+    private void executeEnd() {
+        if (executeStart >= 0) {
+            SqlStatementCounter.executed(System.nanoTime() - executeStart);
+            executeStart = -1;
+        }
+    }
+}
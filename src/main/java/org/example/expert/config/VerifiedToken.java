@@ -0,0 +1,25 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final UserRole userRole;
+    private final long expiresAt; // epoch millis
+
+    public VerifiedToken(Long userId, String email, UserRole userRole, long expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.expiresAt = expiresAt;
+    }
+
+    public AuthUser toAuthUser() {
+        return new AuthUser(userId, email, userRole);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.example.expert.domain.audit.service.AuditAdminService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AuditAdminService auditAdminService;
+
+    @GetMapping("/admin/audit")
+    public ResponseEntity<List<AuditLogResponse>> getAuditLogs(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(auditAdminService.getAuditLogs(userId, from, to, limit));
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AuditLogResponse {
+
+    private final LocalDateTime timestamp;
+    private final Long userId;
+    private final String requestURI;
+    private final String requestBody;
+    private final String responseBody;
+
+    public AuditLogResponse(LocalDateTime timestamp, Long userId, String requestURI, String requestBody, String responseBody) {
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.requestURI = requestURI;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.audit.entity;
+
+import lombok.Getter;
+
+/**
+ * 감사 로그 저장소에 기록되는 관리자 요청 한 건. 본문은 consumer 스레드에서 직렬화를 마친 문자열입니다.
+ */
+@Getter
+public class AuditEntry {
+
+    private final long timestamp; // epoch millis
+    private final Long userId;
+    private final String requestURI;
+    private final String requestBody;
+    private final String responseBody;
+
+    public AuditEntry(long timestamp, Long userId, String requestURI, String requestBody, String responseBody) {
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.requestURI = requestURI;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+    }
+}
@@ -0,0 +1,433 @@
+package org.example.expert.domain.audit.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.entity.AuditEntry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 관리자 감사 로그를 append-only 바이너리 세그먼트 파일에 기록하는 저장소.
+ *
+ * 레코드는 [payload 길이(int)][CRC32(int)][payload] 형식이며, append 한 번에 받은 레코드를 한 번의 write 와
+ * force 로 기록합니다(group commit). 세그먼트가 maxSegmentSize 나 maxSegmentAge 를 넘으면 닫고 새 세그먼트를 엽니다.
+ * 세그먼트마다 시각 범위와 userId 별 레코드 위치를 색인해 조회 시 관련 세그먼트의 해당 레코드만 읽습니다.
+ * 마지막 기록이 retention 보다 오래된 세그먼트는 새 세그먼트를 열 때 삭제합니다.
+ * 하나의 디렉터리는 하나의 애플리케이션 인스턴스만 사용할 수 있으며, 열 때 디렉터리의 lock 파일을 잠가 이를 강제합니다.
+ */
+@Slf4j
+@Component
+public class AuditLogStore {
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String LOCK_FILE = ".lock";
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_PAYLOAD_SIZE = 16 * 1024 * 1024;
+    // MAX_PAYLOAD_SIZE 를 넘는 레코드는 본문마다 이 글자 수까지만 남깁니다. UTF-8 은 char 당 최대 3바이트이므로 두 본문을 합쳐 12MB 이하입니다.
+    private static final int TRUNCATED_BODY_LENGTH = 2 * 1024 * 1024;
+    private static final String TRUNCATED_MARKER = "...(truncated)";
+
+    private final Path directory;
+    private final long maxSegmentSize;
+    private final Duration maxSegmentAge;
+    private final Duration retention;
+
+    // 오래된 세그먼트부터 순서대로 보관합니다. 마지막 요소가 활성 세그먼트입니다.
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Object writeLock = new Object();
+    private Segment active;
+    private FileChannel activeChannel;
+    private long nextSegmentNumber;
+    private FileChannel lockChannel;
+    private FileLock directoryLock;
+
+    // 감사 로그는 재시작 후에도 남아야 하므로 임시 디렉터리가 아니라 작업 디렉터리 아래에 둡니다.
+    public AuditLogStore(
+            @Value("${admin.audit.store.directory:audit-log}") Path directory,
+            @Value("${admin.audit.store.max-segment-size:64MB}") DataSize maxSegmentSize,
+            @Value("${admin.audit.store.max-segment-age:PT1H}") Duration maxSegmentAge,
+            @Value("${admin.audit.store.retention:P90D}") Duration retention
+    ) {
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize.toBytes();
+        this.maxSegmentAge = maxSegmentAge;
+        this.retention = retention;
+    }
+
+    /**
+     * 기존 세그먼트의 색인을 읽어 들입니다. 색인이 없는 세그먼트(비정상 종료된 활성 세그먼트)는 끝까지 읽어 색인을 다시 만들고,
+     * 마지막에 잘린 레코드가 있으면 그 앞까지로 파일을 자릅니다. 이전 세그먼트에는 이어 쓰지 않고 항상 새 세그먼트를 엽니다.
+     * 세그먼트가 없는 색인과 쓰다 만 임시 색인은 같은 번호의 새 세그먼트를 가리지 않도록 먼저 지웁니다.
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        lockDirectory();
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.sorted().toList();
+        }
+        for (Path path : paths) {
+            String fileName = path.getFileName().toString();
+            boolean orphanIndex = fileName.endsWith(INDEX_SUFFIX) && !Files.exists(segmentPathOf(path));
+            if (orphanIndex || fileName.endsWith(TEMP_SUFFIX)) {
+                log.warn("세그먼트가 없는 감사 로그 색인 파일을 삭제합니다. file={}", path);
+                Files.delete(path);
+            }
+        }
+        for (Path path : paths) {
+            if (!path.getFileName().toString().endsWith(SEGMENT_SUFFIX)) {
+                continue;
+            }
+            Segment segment = new Segment(path, recoverIndex(path), Files.size(path));
+            segments.add(segment);
+            nextSegmentNumber = Math.max(nextSegmentNumber, segment.number() + 1);
+        }
+        synchronized (writeLock) {
+            roll();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            sealActive();
+            if (lockChannel != null) {
+                // 채널을 닫으면 잠금도 풀립니다.
+                lockChannel.close();
+                lockChannel = null;
+                directoryLock = null;
+            }
+        }
+    }
+
+    /**
+     * 읽을 때 MAX_PAYLOAD_SIZE 를 넘는 레코드는 손상된 것으로 보고 그 뒤를 버리므로, 쓰기 전에 본문을 잘라 크기를 맞춥니다.
+     * 잘라도 맞지 않는 레코드는 기록하지 않습니다.
+     */
+    public void append(List<AuditEntry> entries) throws IOException {
+        List<AuditEntry> accepted = new ArrayList<>(entries.size());
+        List<byte[]> payloads = new ArrayList<>(entries.size());
+        int totalSize = 0;
+        for (AuditEntry entry : entries) {
+            byte[] payload = encode(entry);
+            if (payload.length > MAX_PAYLOAD_SIZE) {
+                log.warn("감사 로그 레코드가 최대 크기를 넘어 본문을 자릅니다. uri={}, size={}", entry.getRequestURI(), payload.length);
+                entry = truncateBodies(entry);
+                payload = encode(entry);
+                if (payload.length > MAX_PAYLOAD_SIZE) {
+                    log.warn("본문을 잘라도 최대 크기를 넘는 감사 로그 레코드는 기록하지 않습니다. uri={}, size={}",
+                            entry.getRequestURI(), payload.length);
+                    continue;
+                }
+            }
+            accepted.add(entry);
+            payloads.add(payload);
+            totalSize += RECORD_HEADER_SIZE + payload.length;
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            if (active.size > 0 && (active.size + totalSize > maxSegmentSize || active.isOlderThan(maxSegmentAge))) {
+                roll();
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(totalSize);
+            long[] offsets = new long[accepted.size()];
+            for (int i = 0; i < payloads.size(); i++) {
+                offsets[i] = active.size + buffer.position();
+                byte[] payload = payloads.get(i);
+                buffer.putInt(payload.length).putInt(checksum(payload)).put(payload);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                activeChannel.write(buffer);
+            }
+            activeChannel.force(false);
+
+            // 파일에 기록된 뒤에 색인과 크기를 갱신해야 조회가 아직 쓰지 않은 위치를 읽지 않습니다.
+            for (int i = 0; i < accepted.size(); i++) {
+                active.index.add(accepted.get(i).getUserId(), accepted.get(i).getTimestamp(), offsets[i]);
+            }
+            active.size += totalSize;
+        }
+    }
+
+    /**
+     * [from, to] 구간의 기록을 최신 세그먼트부터 limit 건까지 조회합니다. userId 가 있으면 색인의 해당 위치만 읽고,
+     * 없으면 색인의 전체 위치를 뒤에서부터 한 건씩 읽어 limit 건을 채우면 멈춥니다.
+     */
+    public List<AuditEntry> find(Long userId, long from, long to, int limit) throws IOException {
+        List<AuditEntry> result = new ArrayList<>();
+        List<Segment> snapshot = new ArrayList<>(segments);
+        for (int i = snapshot.size() - 1; i >= 0 && result.size() < limit; i--) {
+            Segment segment = snapshot.get(i);
+            if (!segment.index.overlaps(from, to)) {
+                continue;
+            }
+            long[] offsets = userId != null ? segment.index.offsetsOf(userId) : segment.index.allOffsets();
+            try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+                for (int j = offsets.length - 1; j >= 0 && result.size() < limit; j--) {
+                    addIfInRange(result, readRecord(channel, offsets[j]), from, to);
+                }
+            } catch (NoSuchFileException e) {
+                // 조회 도중 retention 으로 삭제된 세그먼트는 건너뜁니다.
+            }
+        }
+        return result;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    private void addIfInRange(List<AuditEntry> result, AuditEntry entry, long from, long to) {
+        if (entry != null && entry.getTimestamp() >= from && entry.getTimestamp() <= to) {
+            result.add(entry);
+        }
+    }
+
+    private void lockDirectory() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            directoryLock = null;
+        }
+        if (directoryLock == null) {
+            lockChannel.close();
+            lockChannel = null;
+            throw new ServerException("감사 로그 디렉터리를 다른 인스턴스가 사용 중입니다. directory=" + directory);
+        }
+    }
+
+    private void roll() throws IOException {
+        sealActive();
+        Path path = directory.resolve(String.format("%020d%s", nextSegmentNumber++, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        active = new Segment(path, new AuditSegmentIndex(), 0);
+        segments.add(active);
+        deleteExpiredSegments();
+    }
+
+    // 활성 세그먼트를 제외하고, 마지막 기록이 retention 보다 오래된 세그먼트를 색인과 함께 삭제합니다.
+    private void deleteExpiredSegments() throws IOException {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        for (Segment segment : segments) {
+            if (segment != active && segment.index.getMaxTimestamp() < cutoff) {
+                segments.remove(segment);
+                Files.deleteIfExists(indexPathOf(segment.path));
+                Files.deleteIfExists(segment.path);
+                log.info("보존 기간이 지난 감사 로그 세그먼트를 삭제했습니다. segment={}", segment.path);
+            }
+        }
+    }
+
+    // 활성 세그먼트를 닫고 색인을 임시 파일에 쓴 뒤 이름을 바꿔, 색인 파일이 있으면 항상 완전하도록 합니다.
+    private void sealActive() throws IOException {
+        if (active == null) {
+            return;
+        }
+        activeChannel.close();
+        if (active.size == 0) {
+            // 기록 없이 닫히는 세그먼트는 남기지 않습니다.
+            segments.remove(active);
+            Files.deleteIfExists(indexPathOf(active.path));
+            Files.delete(active.path);
+            active = null;
+            activeChannel = null;
+            return;
+        }
+        Path indexPath = indexPathOf(active.path);
+        Path tempPath = indexPath.resolveSibling(indexPath.getFileName() + TEMP_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            active.index.writeTo(out);
+        }
+        Files.move(tempPath, indexPath, StandardCopyOption.ATOMIC_MOVE);
+        active = null;
+        activeChannel = null;
+    }
+
+    private AuditSegmentIndex recoverIndex(Path path) throws IOException {
+        Path indexPath = indexPathOf(path);
+        if (Files.exists(indexPath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+                return AuditSegmentIndex.readFrom(in);
+            }
+        }
+
+        AuditSegmentIndex index = new AuditSegmentIndex();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = 0;
+            AuditEntry entry;
+            while ((entry = readRecord(channel, position)) != null) {
+                index.add(entry.getUserId(), entry.getTimestamp(), position);
+                position = channel.position();
+            }
+            if (position < channel.size()) {
+                log.warn("감사 로그 세그먼트 끝의 불완전한 레코드를 잘라냅니다. segment={}, validSize={}, fileSize={}",
+                        path, position, channel.size());
+                channel.truncate(position);
+            }
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexPath)))) {
+            index.writeTo(out);
+        }
+        return index;
+    }
+
+    // position 의 레코드를 읽고 channel 위치를 다음 레코드로 옮깁니다. 잘렸거나 CRC 가 맞지 않으면 null 을 반환합니다.
+    private AuditEntry readRecord(FileChannel channel, long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        if (!readFully(channel, header, position)) {
+            return null;
+        }
+        int length = header.getInt(0);
+        int checksum = header.getInt(Integer.BYTES);
+        if (length <= 0 || length > MAX_PAYLOAD_SIZE) {
+            return null;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        if (!readFully(channel, payload, position + RECORD_HEADER_SIZE) || checksum(payload.array()) != checksum) {
+            return null;
+        }
+        channel.position(position + RECORD_HEADER_SIZE + length);
+        return decode(payload.array());
+    }
+
+    private boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] encode(AuditEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(entry.getTimestamp());
+            out.writeLong(entry.getUserId() == null ? AuditSegmentIndex.NO_USER : entry.getUserId());
+            writeString(out, entry.getRequestURI());
+            writeString(out, entry.getRequestBody());
+            writeString(out, entry.getResponseBody());
+        }
+        return bytes.toByteArray();
+    }
+
+    private AuditEntry decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long timestamp = in.readLong();
+            long userId = in.readLong();
+            return new AuditEntry(
+                    timestamp,
+                    userId == AuditSegmentIndex.NO_USER ? null : userId,
+                    readString(in),
+                    readString(in),
+                    readString(in)
+            );
+        }
+    }
+
+    // DataOutputStream.writeUTF 는 64KB 제한이 있어 길이(int) + UTF-8 바이트로 기록합니다. null 은 길이 -1 입니다.
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private AuditEntry truncateBodies(AuditEntry entry) {
+        return new AuditEntry(
+                entry.getTimestamp(),
+                entry.getUserId(),
+                entry.getRequestURI(),
+                truncate(entry.getRequestBody()),
+                truncate(entry.getResponseBody())
+        );
+    }
+
+    private String truncate(String body) {
+        if (body == null || body.length() <= TRUNCATED_BODY_LENGTH) {
+            return body;
+        }
+        return body.substring(0, TRUNCATED_BODY_LENGTH) + TRUNCATED_MARKER;
+    }
+
+    private static Path indexPathOf(Path segmentPath) {
+        return segmentPath.resolveSibling(segmentPath.getFileName().toString().replace(SEGMENT_SUFFIX, INDEX_SUFFIX));
+    }
+
+    private static Path segmentPathOf(Path indexPath) {
+        return indexPath.resolveSibling(indexPath.getFileName().toString().replace(INDEX_SUFFIX, SEGMENT_SUFFIX));
+    }
+
+    private int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final AuditSegmentIndex index;
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long size;
+
+        private Segment(Path path, AuditSegmentIndex index, long size) {
+            this.path = path;
+            this.index = index;
+            this.size = size;
+        }
+
+        private long number() {
+            String fileName = path.getFileName().toString();
+            return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+        }
+
+        private boolean isOlderThan(Duration age) {
+            return System.currentTimeMillis() - createdAt > age.toMillis();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.expert.domain.audit.repository;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 세그먼트 하나의 시각 범위와 userId 별 레코드 위치를 담는 색인.
+ * 활성 세그먼트는 메모리에서 갱신하고, 세그먼트를 닫을 때 .idx 파일로 저장합니다.
+ */
+class AuditSegmentIndex {
+
+    static final long NO_USER = -1L;
+
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+    private int recordCount;
+    private final Map<Long, long[]> offsetsByUser = new HashMap<>();
+    private final Map<Long, Integer> countsByUser = new HashMap<>();
+
+    synchronized void add(Long userId, long timestamp, long offset) {
+        minTimestamp = Math.min(minTimestamp, timestamp);
+        maxTimestamp = Math.max(maxTimestamp, timestamp);
+        recordCount++;
+
+        long key = userId == null ? NO_USER : userId;
+        int count = countsByUser.getOrDefault(key, 0);
+        long[] offsets = offsetsByUser.get(key);
+        if (offsets == null || offsets.length == count) {
+            long[] grown = new long[offsets == null ? 4 : offsets.length * 2];
+            if (offsets != null) {
+                System.arraycopy(offsets, 0, grown, 0, count);
+            }
+            offsets = grown;
+            offsetsByUser.put(key, offsets);
+        }
+        offsets[count] = offset;
+        countsByUser.put(key, count + 1);
+    }
+
+    synchronized boolean overlaps(long from, long to) {
+        return recordCount > 0 && minTimestamp <= to && maxTimestamp >= from;
+    }
+
+    // 해당 유저의 레코드 위치를 기록 순서대로 복사해 반환합니다. 없으면 빈 배열입니다.
+    synchronized long[] offsetsOf(long userId) {
+        long[] offsets = offsetsByUser.get(userId);
+        if (offsets == null) {
+            return new long[0];
+        }
+        long[] copy = new long[countsByUser.get(userId)];
+        System.arraycopy(offsets, 0, copy, 0, copy.length);
+        return copy;
+    }
+
+    // 모든 유저의 레코드 위치를 파일 순서로 합쳐 반환합니다. 레코드 본문 대신 위치(8바이트)만 메모리에 올립니다.
+    synchronized long[] allOffsets() {
+        long[] all = new long[recordCount];
+        int position = 0;
+        for (Map.Entry<Long, long[]> entry : offsetsByUser.entrySet()) {
+            int count = countsByUser.get(entry.getKey());
+            System.arraycopy(entry.getValue(), 0, all, position, count);
+            position += count;
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    synchronized long getMaxTimestamp() {
+        return maxTimestamp;
+    }
+
+    synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(minTimestamp);
+        out.writeLong(maxTimestamp);
+        out.writeInt(recordCount);
+        out.writeInt(offsetsByUser.size());
+        for (Map.Entry<Long, long[]> entry : offsetsByUser.entrySet()) {
+            int count = countsByUser.get(entry.getKey());
+            out.writeLong(entry.getKey());
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                out.writeLong(entry.getValue()[i]);
+            }
+        }
+    }
+
+    static AuditSegmentIndex readFrom(DataInputStream in) throws IOException {
+        AuditSegmentIndex index = new AuditSegmentIndex();
+        index.minTimestamp = in.readLong();
+        index.maxTimestamp = in.readLong();
+        index.recordCount = in.readInt();
+        int users = in.readInt();
+        for (int i = 0; i < users; i++) {
+            long userId = in.readLong();
+            int count = in.readInt();
+            long[] offsets = new long[count];
+            for (int j = 0; j < count; j++) {
+                offsets[j] = in.readLong();
+            }
+            index.offsetsByUser.put(userId, offsets);
+            index.countsByUser.put(userId, count);
+        }
+        return index;
+    }
+}
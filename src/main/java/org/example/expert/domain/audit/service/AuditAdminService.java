@@ -0,0 +1,63 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.example.expert.domain.audit.entity.AuditEntry;
+import org.example.expert.domain.audit.repository.AuditLogStore;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditAdminService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final AuditLogStore auditLogStore;
+
+    /**
+     * [from, to] 구간의 관리자 요청 기록을 최신순으로 조회합니다. 구간을 지정하지 않으면 전체 기간을 조회합니다.
+     */
+    public List<AuditLogResponse> getAuditLogs(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit 는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("from 은 to 보다 늦을 수 없습니다.");
+        }
+
+        long fromMillis = from == null ? Long.MIN_VALUE : toEpochMillis(from);
+        long toMillis = to == null ? Long.MAX_VALUE : toEpochMillis(to);
+        try {
+            return auditLogStore.find(userId, fromMillis, toMillis, limit).stream()
+                    .map(this::toResponse)
+                    .toList();
+        } catch (IOException e) {
+            log.error("감사 로그 조회에 실패했습니다.", e);
+            throw new ServerException("감사 로그를 조회하지 못했습니다.");
+        }
+    }
+
+    private AuditLogResponse toResponse(AuditEntry entry) {
+        return new AuditLogResponse(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getTimestamp()), ZoneId.systemDefault()),
+                entry.getUserId(),
+                entry.getRequestURI(),
+                entry.getRequestBody(),
+                entry.getResponseBody()
+        );
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
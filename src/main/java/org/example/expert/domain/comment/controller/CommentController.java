@@ -8,8 +8,11 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,7 +32,25 @@ public class CommentController {
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        ResourceVersion version = commentService.getCommentsVersion(todoId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/comments/cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
+        ResourceVersion version = commentService.getCommentsVersion(todoId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.getComments(todoId, cursor, size));
+    }
 }
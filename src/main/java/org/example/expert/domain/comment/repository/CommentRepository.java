@@ -1,14 +1,55 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    String COMMENT_RESPONSE = "new org.example.expert.domain.comment.dto.response.CommentResponse(" +
+            "c.id, c.contents, u.id, u.email, c.createdAt)";
+
+    // 삭제된 일정의 댓글이 조회되지 않도록 일정과 join 합니다.
+    @Query("SELECT " + COMMENT_RESPONSE + " FROM Comment c " +
+            "JOIN c.todo t " +
+            "JOIN c.user u " +
+            "WHERE t.id = :todoId AND t.deletedAt IS NULL " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT " + COMMENT_RESPONSE + " FROM Comment c " +
+            "JOIN c.todo t " +
+            "JOIN c.user u " +
+            "WHERE t.id = :todoId AND t.deletedAt IS NULL " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findFirstResponsesByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Query("SELECT " + COMMENT_RESPONSE + " FROM Comment c " +
+            "JOIN c.todo t " +
+            "JOIN c.user u " +
+            "WHERE t.id = :todoId AND t.deletedAt IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :commentId)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findResponsesByTodoIdAfter(
+            @Param("todoId") Long todoId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("commentId") Long commentId,
+            Limit limit
+    );
+
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(COUNT(c), MAX(c.id), MAX(c.modifiedAt)) " +
+            "FROM Comment c " +
+            "JOIN c.todo t " +
+            "WHERE t.id = :todoId AND t.deletedAt IS NULL")
+    ResourceVersion findVersionByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
 }
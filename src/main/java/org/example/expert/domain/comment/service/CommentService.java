@@ -6,30 +6,39 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final SingleFlight singleFlight;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        Todo todo = todoRepository.findById(todoId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -46,20 +55,49 @@ public class CommentService {
         );
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 일정의 댓글 전체를 (createdAt, id) 순으로 조회합니다. 기존 클라이언트를 위한 응답 형식이며,
+     * 댓글이 많은 일정은 getComments(todoId, cursor, size) 로 나눠 조회해야 합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+        return singleFlight.execute(SingleFlight.key("comments", todoId),
+                () -> commentRepository.findResponsesByTodoId(todoId));
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    /**
+     * (createdAt, id) 기준 keyset 페이지네이션으로 댓글을 조회합니다.
+     * 댓글 수와 관계없이 한 번에 size + 1 건만 메모리에 올립니다.
+     * 같은 페이지에 대한 동시 요청은 SingleFlight 로 하나의 조회를 공유합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
         }
-        return dtoList;
+
+        return singleFlight.execute(SingleFlight.key("comments", todoId, cursor, size),
+                () -> loadComments(todoId, cursor, size));
+    }
+
+    // 조건부 요청마다 실행되는 집계 쿼리이므로 같은 일정에 대한 동시 요청은 하나의 조회를 공유합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResourceVersion getCommentsVersion(long todoId) {
+        return singleFlight.execute(SingleFlight.key("commentsVersion", todoId),
+                () -> commentRepository.findVersionByTodoId(todoId));
+    }
+
+    private CursorResponse<CommentResponse> loadComments(long todoId, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<CommentResponse> comments;
+        if (cursor == null) {
+            comments = commentRepository.findFirstResponsesByTodoId(todoId, limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            comments = commentRepository.findResponsesByTodoIdAfter(todoId, keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        return CursorResponse.of(comments, size,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()).encode());
     }
 }
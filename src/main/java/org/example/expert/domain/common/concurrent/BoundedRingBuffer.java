@@ -0,0 +1,89 @@
+package org.example.expert.domain.common.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 큐. 슬롯마다 sequence 를 두어 생산자와 소비자가 CAS 만으로 위치를 확보합니다.
+ * 가득 차면 offer 가 즉시 false 를 반환하므로 호출 스레드가 블록되지 않습니다.
+ */
+public class BoundedRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    // 슬롯 i 의 sequence 가 pos 이면 pos 위치에 쓸 수 있고, pos + 1 이면 pos 위치의 값을 읽을 수 있다.
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public BoundedRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // 한 바퀴 전 값이 아직 소비되지 않았으므로 가득 찬 상태
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    public E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    sequences.set(index, pos + mask + 1);
+                    return element;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 로 동시에 들어온 읽기 요청이 하나의 DB 조회 결과를 공유하도록 묶습니다.
+ *
+ * 먼저 들어온 요청만 읽기 전용 트랜잭션 안에서 loader 를 실행하고, 나머지는 그 결과(또는 예외)를 기다립니다.
+ * 기다리는 요청은 트랜잭션을 열지 않으므로 커넥션을 점유하지 않습니다.
+ * 결과는 여러 스레드가 공유하므로 불변 객체여야 하며, 조회가 끝나면 key 는 바로 제거되어 캐시처럼 동작하지 않습니다.
+ */
+@Component
+public class SingleFlight {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+
+    public SingleFlight(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public static List<Object> key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(List<Object> key, Supplier<T> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            sharedCount.increment();
+            return (T) await(existing);
+        }
+
+        loadCount.increment();
+        try {
+            T result = readOnlyTransaction.execute(status -> loader.get());
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+
+    // 먼저 실행한 요청과 같은 예외를 그대로 던집니다.
+    private Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor; // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 응답을 만듭니다.
+     * 초과분이 있으면 size 건만 남기고 마지막 항목으로 다음 cursor 를 만듭니다.
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorResponse<>(rows, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorResponse<>(content, cursorOf.apply(content.get(size - 1)));
+    }
+}
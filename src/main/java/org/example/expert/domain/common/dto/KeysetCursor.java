@@ -0,0 +1,43 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (시각, id) 정렬 키로 만든 불투명(opaque) cursor.
+ * 클라이언트에는 Base64URL 문자열로만 노출합니다.
+ */
+@Getter
+public class KeysetCursor {
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
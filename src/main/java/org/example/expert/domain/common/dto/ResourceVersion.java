@@ -0,0 +1,41 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조건부 GET 에 사용할 응답 버전. 본문을 만들지 않고 가벼운 쿼리 하나로 조회합니다.
+ */
+@Getter
+public class ResourceVersion {
+
+    private final String eTag;
+    private final long lastModified; // epoch millis, 알 수 없으면 -1
+
+    private ResourceVersion(String eTag, LocalDateTime lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // JPQL constructor expression 용 생성자: 단일 행의 id 와 modifiedAt 으로 strong ETag 를 만듭니다.
+    public ResourceVersion(Long id, LocalDateTime modifiedAt) {
+        this("\"" + id + "-" + toMicros(modifiedAt) + "\"", modifiedAt);
+    }
+
+    // JPQL constructor expression 용 생성자: 목록의 건수, 최대 id, 최근 수정 시각으로 weak ETag 를 만듭니다.
+    public ResourceVersion(Long count, Long maxId, LocalDateTime lastModified) {
+        this("W/\"" + count + "-" + maxId + "-" + toMicros(lastModified) + "\"", lastModified);
+    }
+
+    // JPQL constructor expression 용 생성자: 수정 시각이 없는 목록은 건수와 최대 id 만 사용합니다.
+    public ResourceVersion(Long count, Long maxId) {
+        this("W/\"" + count + "-" + maxId + "\"", null);
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), dateTime);
+    }
+}
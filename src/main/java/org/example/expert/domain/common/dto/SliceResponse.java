@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SliceResponse<T> {
+
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final Long approximateTotal; // 요청하지 않은 경우 null
+
+    public SliceResponse(List<T> content, int page, int size, boolean hasNext, Long approximateTotal) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.approximateTotal = approximateTotal;
+    }
+}
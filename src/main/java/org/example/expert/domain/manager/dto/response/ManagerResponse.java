@@ -13,4 +13,9 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    // JPQL constructor expression 용 생성자
+    public ManagerResponse(Long id, Long userId, String email) {
+        this(id, new UserResponse(userId, email));
+    }
 }
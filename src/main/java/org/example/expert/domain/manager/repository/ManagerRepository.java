@@ -1,13 +1,26 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 일정에서 출발해 LEFT JOIN 하므로 일정이 없거나 삭제됐으면 빈 결과, 담당자가 없으면 (0, null) 을 돌려줍니다.
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(COUNT(m), MAX(m.id)) " +
+            "FROM Todo t LEFT JOIN t.managers m WHERE t.id = :todoId GROUP BY t.id")
+    Optional<ResourceVersion> findVersionByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.id FROM Manager m WHERE m.todo.id = :todoId ORDER BY m.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
 }
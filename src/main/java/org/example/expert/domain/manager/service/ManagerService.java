@@ -1,7 +1,9 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
@@ -14,10 +16,10 @@ import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -27,12 +29,14 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final SingleFlight singleFlight;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
         if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
@@ -55,22 +59,27 @@ public class ManagerService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // 같은 일정에 대한 동시 요청은 SingleFlight 로 하나의 조회를 공유합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        return singleFlight.execute(SingleFlight.key("managers", todoId), () -> {
+            if (!todoRepository.existsById(todoId)) {
+                throw new InvalidRequestException("Todo not found");
+            }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+            return managerRepository.findResponsesByTodoId(todoId);
+        });
+    }
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
-        }
-        return dtoList;
+    /**
+     * 일정 존재 여부를 버전 집계와 같은 쿼리에서 확인하므로 304 응답은 쿼리 하나로 끝납니다.
+     * 조건부 요청마다 실행되므로 목록 조회와 마찬가지로 동시 요청이 하나의 조회를 공유합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResourceVersion getManagersVersion(long todoId) {
+        return singleFlight.execute(SingleFlight.key("managersVersion", todoId), () ->
+                managerRepository.findVersionByTodoId(todoId)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found")));
     }
 
     @Transactional
@@ -79,6 +88,7 @@ public class ManagerService {
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         Todo todo = todoRepository.findById(todoId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
         if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoAdminService todoAdminService;
+
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(
+            @RequestParam(defaultValue = "true") boolean withEmail,
+            @RequestParam(defaultValue = "false") boolean withCommentCount,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        todoAdminService.exportTodos(withEmail, withCommentCount, response.getOutputStream());
+    }
+
+    // JSON 배열과 NDJSON 을 모두 받습니다.
+    @PostMapping(value = "/admin/todos/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TodoImportResponse> importTodos(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(todoAdminService.importTodos(request.getInputStream()));
+    }
+}
@@ -4,19 +4,29 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoChangeService;
+import org.example.expert.domain.todo.service.TodoPageCache;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoPageCache todoPageCache;
+    private final TodoChangeService todoChangeService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -27,15 +37,61 @@ public class TodoController {
     }
 
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<byte[]> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        byte[] body = todoPageCache.getOrLoad(page, size, () -> todoService.getTodos(page, size));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
+    @GetMapping("/todos/slice")
+    public ResponseEntity<SliceResponse<TodoResponse>> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size, withTotal));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    @GetMapping("/todos/changes")
+    public ResponseEntity<TodoChangesResponse> getTodoChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(todoChangeService.getChanges(since, size));
+    }
+
+    // 버전을 본문보다 먼저 조회해 ETag 가 본문보다 새로운 경우가 생기지 않도록 합니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        ResourceVersion version = todoService.getTodoVersion(todoId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
+    }
+
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "10") int commentSize
+    ) {
+        return ResponseEntity.ok(todoService.getTodoDetail(todoId, commentSize));
+    }
 }
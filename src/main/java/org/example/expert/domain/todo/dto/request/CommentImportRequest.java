@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentImportRequest {
+
+    private Long userId;
+    private String contents;
+}
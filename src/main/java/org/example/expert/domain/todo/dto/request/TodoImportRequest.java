@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRequest {
+
+    private Long userId; // 일정 작성자 id, 작성자는 담당자로 자동 등록됩니다.
+    private String title;
+    private String contents;
+    private String weather;
+    private List<Long> managerUserIds = new ArrayList<>();
+    private List<CommentImportRequest> comments = new ArrayList<>();
+}
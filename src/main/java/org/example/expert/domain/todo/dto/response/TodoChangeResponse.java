@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoChangeResponse {
+
+    private final Long id;
+    private final boolean deleted;
+    private final LocalDateTime modifiedAt;
+    private final TodoResponse todo; // 삭제된 일정(tombstone)이면 null
+
+    private TodoChangeResponse(Long id, boolean deleted, LocalDateTime modifiedAt, TodoResponse todo) {
+        this.id = id;
+        this.deleted = deleted;
+        this.modifiedAt = modifiedAt;
+        this.todo = todo;
+    }
+
+    public static TodoChangeResponse upsert(TodoResponse todo) {
+        return new TodoChangeResponse(todo.getId(), false, todo.getModifiedAt(), todo);
+    }
+
+    public static TodoChangeResponse tombstone(Long id, LocalDateTime modifiedAt) {
+        return new TodoChangeResponse(id, true, modifiedAt, null);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoChangesResponse {
+
+    private final List<TodoChangeResponse> changes;
+    private final String cursor; // 다음 요청의 since 로 그대로 전달합니다. 남은 변경이 없으면 settle-delay 창 끝을 가리킵니다.
+    private final boolean hasMore;
+
+    public TodoChangesResponse(List<TodoChangeResponse> changes, String cursor, boolean hasMore) {
+        this.changes = changes;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+    }
+}
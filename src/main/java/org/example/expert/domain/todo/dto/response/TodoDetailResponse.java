@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final List<ManagerResponse> managers;
+    private final CursorResponse<CommentResponse> comments; // 다음 댓글은 comments.nextCursor 로 이어서 조회합니다.
+
+    public TodoDetailResponse(TodoResponse todo, List<ManagerResponse> managers, CursorResponse<CommentResponse> comments) {
+        this.todo = todo;
+        this.managers = managers;
+        this.comments = comments;
+    }
+}
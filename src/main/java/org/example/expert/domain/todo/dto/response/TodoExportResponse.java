@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final Long userId;
+    private final String email;
+    private final Long commentCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    // JPQL constructor expression 용 생성자
+    public TodoExportResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, userId, email, null, createdAt, modifiedAt);
+    }
+
+    // JPQL constructor expression 용 생성자 (댓글 수 포함)
+    public TodoExportResponse(Long id, String title, String contents, String weather, Long userId, String email, Long commentCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.email = email;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
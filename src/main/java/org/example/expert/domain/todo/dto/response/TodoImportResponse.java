@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoImportResponse {
+
+    private final long todoCount;
+    private final long managerCount;
+    private final long commentCount;
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+
+    public TodoImportResponse(long todoCount, long managerCount, long commentCount, long elapsedMillis, long rowsPerSecond) {
+        this.todoCount = todoCount;
+        this.managerCount = managerCount;
+        this.commentCount = commentCount;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
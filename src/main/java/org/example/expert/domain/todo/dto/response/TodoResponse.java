@@ -25,4 +25,9 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL constructor expression 용 생성자
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt);
+    }
 }
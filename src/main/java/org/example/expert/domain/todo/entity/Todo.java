@@ -7,27 +7,51 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@SQLRestriction("deleted_at IS NULL") // soft delete 된 일정은 DB 조회에서 제외됩니다. 2차 캐시를 거치는 id 조회는 isDeleted 로 거릅니다.
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+        // TodoWeatherEnricher 가 주기적으로 PENDING 일정을 id 순으로 찾을 때 전체 스캔을 피합니다.
+        @Index(name = "idx_todos_weather_id", columnList = "weather, id")
+})
+@Cacheable
+/*
+ * 수정 중인 항목을 soft lock 으로 잠가, 삭제 커밋과 겹친 동시 조회가 삭제 전 상태를 다시 캐시에 넣지 못하게 합니다.
+ * 캐시 조회에는 @SQLRestriction 이 적용되지 않아 삭제 후에는 삭제된 상태가 findById 로 반환되므로, id 로 읽은 일정은 isDeleted 를 확인합니다.
+ */
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Todo.CACHE_REGION)
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String CACHE_REGION = "todos";
+
+    // 비동기 날씨 보강 모드에서 아직 날씨가 채워지지 않은 일정의 표시값
+    public static final String WEATHER_PENDING = "PENDING";
+
+    // IDENTITY 는 insert 배치를 비활성화하므로 pooled sequence 로 id 를 미리 할당받습니다.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq_generator")
+    @SequenceGenerator(name = "todo_seq_generator", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    private LocalDateTime deletedAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 댓글과 담당자는 TodoPurger 가 chunk 단위 DELETE 로 정리합니다.
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -45,4 +69,13 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
     }
+
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    // 2차 캐시에서 읽은 일정은 @SQLRestriction 을 거치지 않으므로 id 조회 결과는 이 값으로 한 번 더 걸러야 합니다.
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
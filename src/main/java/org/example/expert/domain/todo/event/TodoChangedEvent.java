@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * 일정 목록 응답에 영향을 주는 변경(생성, 수정, 삭제)이 커밋되었음을 알리는 이벤트.
+ */
+@Getter
+public class TodoChangedEvent {
+
+    private final Long todoId; // 여러 일정이 한 번에 바뀐 경우 null
+
+    public TodoChangedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+
+    public static TodoChangedEvent bulk() {
+        return new TodoChangedEvent(null);
+    }
+}
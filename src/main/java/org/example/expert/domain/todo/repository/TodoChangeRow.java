@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드 native query 의 결과 행. 삭제된 일정도 포함되며 이 경우 deletedAt 이 채워집니다.
+ */
+public interface TodoChangeRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContents();
+
+    String getWeather();
+
+    Long getUserId();
+
+    String getEmail();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getModifiedAt();
+
+    LocalDateTime getDeletedAt();
+}
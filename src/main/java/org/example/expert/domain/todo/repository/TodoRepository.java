@@ -1,24 +1,153 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    String TODO_RESPONSE = "new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt)";
+
+    String EXPORT_FETCH_SIZE = "1000";
+
+    String TODO_CHANGE_COLUMNS = "t.id AS id, t.title AS title, t.contents AS contents, t.weather AS weather, " +
+            "u.id AS userId, u.email AS email, t.created_at AS createdAt, t.modified_at AS modifiedAt, " +
+            "t.deleted_at AS deletedAt";
+
+    @Query(value = "SELECT " + TODO_RESPONSE + " FROM Todo t " +
+            "JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
+    // Slice 반환 타입은 count 쿼리 없이 size + 1 건만 조회합니다.
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t " +
+            "JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findTodoResponseSlice(Pageable pageable);
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t " +
+            "JOIN t.user u " +
             "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(t.id, t.modifiedAt) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<ResourceVersion> findVersionById(@Param("todoId") Long todoId);
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t " +
+            "JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstKeysetPage(Limit limit);
+
+    @Query("SELECT " + TODO_RESPONSE + " FROM Todo t " +
+            "JOIN t.user u " +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :todoId) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findKeysetPageAfter(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("todoId") Long todoId,
+            Limit limit
+    );
+
+    // soft delete 된 일정은 @SQLRestriction 으로 JPQL 에서 보이지 않으므로 native query 로 조회/삭제합니다.
+    @Query(value = "SELECT id FROM todos " +
+            "WHERE deleted_at IS NOT NULL AND deleted_at < :deletedBefore " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedIds(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    /*
+     * 변경 피드는 삭제된 일정도 tombstone 으로 내려줘야 하므로 @SQLRestriction 을 우회하는 native query 를 사용합니다.
+     * (modified_at, id) 오름차순으로 idx_todos_modified_at_id 범위만 읽습니다.
+     */
+    @Query(value = "SELECT " + TODO_CHANGE_COLUMNS + " FROM todos t " +
+            "JOIN users u ON u.id = t.user_id " +
+            "WHERE t.modified_at < :until " +
+            "ORDER BY t.modified_at, t.id LIMIT :limit", nativeQuery = true)
+    List<TodoChangeRow> findFirstChanges(@Param("until") LocalDateTime until, @Param("limit") int limit);
+
+    @Query(value = "SELECT " + TODO_CHANGE_COLUMNS + " FROM todos t " +
+            "JOIN users u ON u.id = t.user_id " +
+            "WHERE (t.modified_at > :modifiedAt OR (t.modified_at = :modifiedAt AND t.id > :todoId)) " +
+            "AND t.modified_at < :until " +
+            "ORDER BY t.modified_at, t.id LIMIT :limit", nativeQuery = true)
+    List<TodoChangeRow> findChangesAfter(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("todoId") Long todoId,
+            @Param("until") LocalDateTime until,
+            @Param("limit") int limit
+    );
+
+    // 영향받는 테이블을 알려 주지 않으면 native DML 이 2차 캐시 전체를 비웁니다.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "todos"))
+    @Query(value = "DELETE FROM todos WHERE id = :todoId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int deleteDeletedById(@Param("todoId") Long todoId);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.weather = :weather ORDER BY t.id")
+    List<Long> findIdsByWeather(@Param("weather") String weather, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather, t.modifiedAt = :modifiedAt " +
+            "WHERE t.id IN :todoIds AND t.weather = :pendingWeather")
+    int updatePendingWeather(
+            @Param("todoIds") List<Long> todoIds,
+            @Param("pendingWeather") String pendingWeather,
+            @Param("weather") String weather,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    /*
+     * export 용 스트리밍 조회입니다. 반드시 트랜잭션 안에서 소비하고 닫아야 합니다.
+     * MySQL 에서 fetch size 가 실제로 적용되려면 JDBC URL 에 useCursorFetch=true 가 필요합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoExportResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t " +
+            "JOIN t.user u " +
+            "ORDER BY t.id")
+    Stream<TodoExportResponse> streamExportResponses();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoExportResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.todo = t), " +
+            "t.createdAt, t.modifiedAt) " +
+            "FROM Todo t " +
+            "JOIN t.user u " +
+            "ORDER BY t.id")
+    Stream<TodoExportResponse> streamExportResponsesWithCommentCount();
 }
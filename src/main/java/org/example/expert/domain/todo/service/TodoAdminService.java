@@ -0,0 +1,219 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.CommentImportRequest;
+import org.example.expert.domain.todo.dto.request.TodoImportRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    // 이 건수마다 출력 버퍼를 내보내고 영속성 컨텍스트를 비웁니다.
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final TodoCountTracker todoCountTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 모든 일정을 id 순으로 한 줄에 하나씩 NDJSON 으로 outputStream 에 씁니다.
+     * 결과를 모으지 않고 DB 커서에서 읽는 즉시 쓰기 때문에 일정 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @return 내보낸 일정 수
+     */
+    @Transactional(readOnly = true)
+    public long exportTodos(boolean withEmail, boolean withCommentCount, OutputStream outputStream) throws IOException {
+        long count = 0;
+
+        try (Stream<TodoExportResponse> todos = withCommentCount
+                ? todoRepository.streamExportResponsesWithCommentCount()
+                : todoRepository.streamExportResponses();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+
+            // 응답 스트림은 서블릿 컨테이너가 닫습니다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 줄바꿈은 writeTodo 가 직접 쓰므로 루트 값 사이의 기본 구분자(공백)는 쓰지 않습니다.
+            generator.setRootValueSeparator(null);
+
+            Iterator<TodoExportResponse> iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                writeTodo(generator, iterator.next(), withEmail, withCommentCount);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
+    /**
+     * JSON 배열 또는 NDJSON 으로 받은 일정을 담당자, 댓글과 함께 저장합니다.
+     * FLUSH_INTERVAL 건씩 읽어 작성자를 한 번에 검증하고, flush 시 insert 가 JDBC batch 로 묶여 나갑니다.
+     * 각 chunk 는 자신의 트랜잭션에서 커밋되므로, 트랜잭션이 변경 피드의 settle-delay 보다 오래 열려 있지 않고
+     * 실패하면 그 chunk 만 롤백되며 앞서 커밋된 chunk 는 남습니다.
+     */
+    public TodoImportResponse importTodos(InputStream inputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportCount importCount = new ImportCount();
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+
+        try (MappingIterator<TodoImportRequest> requests = objectMapper.readerFor(TodoImportRequest.class).readValues(inputStream)) {
+            List<TodoImportRequest> chunk = new ArrayList<>(FLUSH_INTERVAL);
+            while (requests.hasNext()) {
+                chunk.add(requests.next());
+                if (chunk.size() == FLUSH_INTERVAL) {
+                    commitChunk(chunkTransaction, chunk, importCount);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(chunkTransaction, chunk, importCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("일정 import 실패: 이미 커밋된 todos={}, managers={}, comments={}",
+                    importCount.todos, importCount.managers, importCount.comments);
+            throw e;
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+        long rows = importCount.todos + importCount.managers + importCount.comments;
+        long rowsPerSecond = rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        log.info("일정 import 완료: todos={}, managers={}, comments={}, rows/sec={}",
+                importCount.todos, importCount.managers, importCount.comments, rowsPerSecond);
+
+        return new TodoImportResponse(importCount.todos, importCount.managers, importCount.comments,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+    }
+
+    // chunk 가 커밋된 뒤에만 건수를 더하므로, 실패한 chunk 는 응답과 일정 수 추정치에 포함되지 않습니다.
+    private void commitChunk(TransactionTemplate chunkTransaction, List<TodoImportRequest> chunk, ImportCount importCount) {
+        ImportCount chunkCount = new ImportCount();
+        chunkTransaction.executeWithoutResult(status -> {
+            importChunk(chunk, chunkCount);
+            eventPublisher.publishEvent(TodoChangedEvent.bulk());
+        });
+
+        importCount.todos += chunkCount.todos;
+        importCount.managers += chunkCount.managers;
+        importCount.comments += chunkCount.comments;
+        todoCountTracker.add(chunkCount.todos);
+    }
+
+    private void importChunk(List<TodoImportRequest> chunk, ImportCount importCount) {
+        validateUsers(chunk);
+
+        for (TodoImportRequest request : chunk) {
+            if (isBlank(request.getTitle()) || isBlank(request.getContents())) {
+                throw new InvalidRequestException("title 과 contents 는 필수입니다.");
+            }
+
+            // 작성자는 Todo 생성자에서 담당자로 추가되고 cascade 로 함께 저장됩니다.
+            Todo todo = todoRepository.save(new Todo(
+                    request.getTitle(),
+                    request.getContents(),
+                    request.getWeather(),
+                    userRepository.getReferenceById(request.getUserId())
+            ));
+            importCount.todos++;
+            importCount.managers++;
+
+            for (Long managerUserId : request.getManagerUserIds()) {
+                if (!managerUserId.equals(request.getUserId())) {
+                    managerRepository.save(new Manager(userRepository.getReferenceById(managerUserId), todo));
+                    importCount.managers++;
+                }
+            }
+
+            for (CommentImportRequest comment : request.getComments()) {
+                commentRepository.save(new Comment(comment.getContents(), userRepository.getReferenceById(comment.getUserId()), todo));
+                importCount.comments++;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // chunk 에 등장하는 모든 사용자 id 를 쿼리 한 번으로 확인합니다.
+    private void validateUsers(List<TodoImportRequest> chunk) {
+        Set<Long> userIds = new HashSet<>();
+        for (TodoImportRequest request : chunk) {
+            userIds.add(request.getUserId());
+            userIds.addAll(request.getManagerUserIds());
+            request.getComments().forEach(comment -> userIds.add(comment.getUserId()));
+        }
+        if (userIds.contains(null)) {
+            throw new InvalidRequestException("userId 는 필수입니다.");
+        }
+        if (userRepository.findExistingIds(userIds).size() != userIds.size()) {
+            throw new InvalidRequestException("User not found");
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private void writeTodo(JsonGenerator generator, TodoExportResponse todo, boolean withEmail, boolean withCommentCount) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", todo.getId());
+        generator.writeStringField("title", todo.getTitle());
+        generator.writeStringField("contents", todo.getContents());
+        generator.writeStringField("weather", todo.getWeather());
+        generator.writeNumberField("userId", todo.getUserId());
+        if (withEmail) {
+            generator.writeStringField("email", todo.getEmail());
+        }
+        if (withCommentCount) {
+            generator.writeNumberField("commentCount", todo.getCommentCount());
+        }
+        generator.writeObjectField("createdAt", todo.getCreatedAt());
+        generator.writeObjectField("modifiedAt", todo.getModifiedAt());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static final class ImportCount {
+
+        private long todos;
+        private long managers;
+        private long comments;
+    }
+}
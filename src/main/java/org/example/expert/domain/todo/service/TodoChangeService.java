@@ -0,0 +1,103 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PrimaryReads;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoChangeResponse;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoChangeRow;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 클라이언트 동기화용 변경 피드. since cursor 이후 생성, 수정, 삭제된 일정만 (modifiedAt, id) 순으로 반환하므로
+ * 동기화 비용이 전체 일정 수가 아니라 변경량에 비례합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TodoChangeService {
+
+    public static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final Duration settleDelay;
+    private final Duration tombstoneRetention;
+
+    public TodoChangeService(
+            TodoRepository todoRepository,
+            @Value("${todo.changes.settle-delay:PT2S}") Duration settleDelay,
+            @Value("${todo.changes.tombstone-retention:P7D}") Duration tombstoneRetention
+    ) {
+        this.todoRepository = todoRepository;
+        this.settleDelay = settleDelay;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * modifiedAt 은 커밋 전에 애플리케이션에서 정해지므로, 방금 수정된 행은 더 이른 modifiedAt 으로 늦게 커밋될 수 있습니다.
+     * settleDelay 이내에 수정된 행은 다음 요청으로 미뤄 cursor 가 아직 커밋되지 않은 변경을 건너뛰지 않도록 합니다.
+     * 이 보장은 어떤 쓰기 트랜잭션도 settleDelay 보다 오래 열려 있지 않을 때만 성립하므로, 대량 import 도
+     * FLUSH_INTERVAL 건씩 나눠 커밋합니다. replica 는 지연 시간만큼 커밋을 늦게 보여 주므로 변경 피드는 항상 primary 에서 읽습니다.
+     */
+    public TodoChangesResponse getChanges(String since, int size) {
+        if (size < 1 || size > MAX_CHANGES_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CHANGES_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(settleDelay);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회합니다.
+        List<TodoChangeRow> rows;
+        KeysetCursor cursor = since == null ? null : KeysetCursor.decode(since);
+        if (cursor == null) {
+            rows = PrimaryReads.call(() -> todoRepository.findFirstChanges(until, size + 1));
+        } else {
+            // 보존 기간이 지난 tombstone 은 이미 purge 되었을 수 있으므로 전체 목록부터 다시 받아야 합니다.
+            if (cursor.getTimestamp().isBefore(now.minus(tombstoneRetention))) {
+                throw new InvalidRequestException("만료된 cursor 입니다. since 없이 처음부터 다시 동기화해 주세요.");
+            }
+            rows = PrimaryReads.call(() ->
+                    todoRepository.findChangesAfter(cursor.getTimestamp(), cursor.getId(), until, size + 1));
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<TodoChangeRow> page = hasMore ? rows.subList(0, size) : rows;
+        List<TodoChangeResponse> changes = page.stream().map(this::toChange).toList();
+        if (hasMore) {
+            TodoChangeRow last = page.get(page.size() - 1);
+            return new TodoChangesResponse(changes, new KeysetCursor(last.getModifiedAt(), last.getId()).encode(), true);
+        }
+
+        // until 이전의 변경은 모두 내려줬으므로 cursor 를 창 끝으로 옮깁니다. 마지막 변경 시각에 머물면 변경이 없는 동안
+        // cursor 가 보존 기간을 넘겨 만료되고, 처음부터 다시 받아도 같은 cursor 를 돌려받게 됩니다.
+        // until 과 같은 시각의 행은 아직 내려주지 않았으므로 id 0 으로 두어 다음 요청에 포함되게 합니다.
+        if (cursor != null && cursor.getTimestamp().isAfter(until)) {
+            return new TodoChangesResponse(changes, since, false);
+        }
+        return new TodoChangesResponse(changes, new KeysetCursor(until, 0L).encode(), false);
+    }
+
+    private TodoChangeResponse toChange(TodoChangeRow row) {
+        if (row.getDeletedAt() != null) {
+            return TodoChangeResponse.tombstone(row.getId(), row.getModifiedAt());
+        }
+        return TodoChangeResponse.upsert(new TodoResponse(
+                row.getId(),
+                row.getTitle(),
+                row.getContents(),
+                row.getWeather(),
+                new UserResponse(row.getUserId(), row.getEmail()),
+                row.getCreatedAt(),
+                row.getModifiedAt()
+        ));
+    }
+}
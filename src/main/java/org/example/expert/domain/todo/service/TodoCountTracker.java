@@ -0,0 +1,60 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 전체 개수의 근사값. 저장/삭제 시 증감하고 주기적으로 count(*) 결과로 보정합니다.
+ * 목록 조회마다 count(*) 를 실행하지 않기 위해 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountTracker {
+
+    private static final long UNINITIALIZED = -1;
+
+    private final TodoRepository todoRepository;
+
+    private final AtomicLong count = new AtomicLong(UNINITIALIZED);
+
+    public long getApproximateCount() {
+        long current = count.get();
+        if (current == UNINITIALIZED) {
+            return reconcile();
+        }
+        return current;
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void add(long delta) {
+        count.updateAndGet(current -> current == UNINITIALIZED ? current : current + delta);
+    }
+
+    public void decrement() {
+        count.updateAndGet(current -> current == UNINITIALIZED ? current : Math.max(0, current - 1));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.reconcile-interval:PT5M}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("일정 개수 보정에 실패했습니다.", e);
+        }
+    }
+
+    public long reconcile() {
+        long actual = todoRepository.count();
+        count.set(actual);
+        return actual;
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.PrimaryReads;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * GET /todos 의 앞쪽 페이지 응답을 직렬화된 JSON 으로 보관하는 캐시.
+ *
+ * 일정이 바뀌면 커밋 이후 generation 을 올려 기존 항목을 모두 무효화합니다.
+ * 각 항목은 조회를 시작한 시점의 generation 을 함께 저장하고, 조회 도중 변경이 커밋되면
+ * 그 항목은 현재 generation 과 달라 사용되지 않으므로 쓰기 이후의 다음 조회는 항상 DB 를 다시 읽습니다.
+ * 캐시에 넣을 조회는 PrimaryReads 로 primary 에서 읽어, 지연된 replica 의 쓰기 이전 페이지가 새 generation 으로 저장되지 않게 합니다.
+ *
+ * 무효화는 이 JVM 안에서 발행된 TodoChangedEvent 로만 일어납니다. 여러 인스턴스로 배포하면
+ * 다른 인스턴스의 쓰기는 반영되지 않으므로, 각 항목은 ttl 이 지나면 다시 읽어 그 지연을 ttl 로 제한합니다.
+ */
+@Component
+public class TodoPageCache {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final int maxPage;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Entry> entries;
+    private final Map<String, KeyStatistics> statistics = new ConcurrentHashMap<>();
+
+    public TodoPageCache(
+            ObjectMapper objectMapper,
+            @Value("${todo.page-cache.max-entries:64}") int maxEntries,
+            @Value("${todo.page-cache.max-page:5}") int maxPage,
+            @Value("${todo.page-cache.max-size:50}") int maxSize,
+            @Value("${todo.page-cache.ttl:PT10S}") Duration ttl
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.maxPage = maxPage;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > TodoPageCache.this.maxEntries;
+            }
+        });
+    }
+
+    public byte[] getOrLoad(int page, int size, Supplier<?> loader) {
+        if (!isCacheable(page, size)) {
+            return serialize(loader.get());
+        }
+
+        String key = page + ":" + size;
+        KeyStatistics keyStatistics = statistics.computeIfAbsent(key, k -> new KeyStatistics());
+
+        // DB 조회 전에 generation 을 읽어야 조회 도중 커밋된 변경을 놓치지 않습니다.
+        long currentGeneration = generation.get();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.generation == currentGeneration && System.nanoTime() - entry.loadedAt < ttlNanos) {
+            keyStatistics.hits.increment();
+            return entry.body;
+        }
+
+        keyStatistics.misses.increment();
+        long loadedAt = System.nanoTime();
+        byte[] body = serialize(PrimaryReads.call(loader));
+        entries.put(key, new Entry(body, currentGeneration, loadedAt));
+        return body;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public Map<String, KeyStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isCacheable(int page, int size) {
+        return maxEntries > 0 && page >= 1 && page <= maxPage && size >= 1 && size <= maxSize;
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new ServerException("일정 목록 응답을 직렬화할 수 없습니다.");
+        }
+    }
+
+    public static final class KeyStatistics {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        public long getMissCount() {
+            return misses.sum();
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] body;
+        private final long generation;
+        private final long loadedAt;
+
+        private Entry(byte[] body, long generation, long loadedAt) {
+            this.body = body;
+            this.generation = generation;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
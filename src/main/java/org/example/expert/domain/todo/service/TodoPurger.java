@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * soft delete 된 일정의 댓글과 담당자를 chunkSize 건씩 id 목록 DELETE 로 지우고, 마지막에 일정 행을 지웁니다.
+ * chunk 마다 별도 트랜잭션이라 큰 일정도 락 보유 시간과 undo log 가 chunk 크기로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class TodoPurger {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final int todoBatchSize;
+    private final int chunkSize;
+    private final Duration tombstoneRetention;
+
+    public TodoPurger(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            @Value("${todo.purge.todo-batch-size:100}") int todoBatchSize,
+            @Value("${todo.purge.chunk-size:1000}") int chunkSize,
+            @Value("${todo.changes.tombstone-retention:P7D}") Duration tombstoneRetention
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.todoBatchSize = todoBatchSize;
+        this.chunkSize = chunkSize;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.purge.interval:PT1M}")
+    public void purge() {
+        try {
+            int purged;
+            do {
+                purged = purgeNextBatch();
+            } while (purged == todoBatchSize);
+        } catch (RuntimeException e) {
+            // 실패한 일정은 deleted_at 이 남아 있으므로 다음 주기에 다시 시도합니다.
+            log.warn("삭제된 일정 정리에 실패했습니다.", e);
+        }
+    }
+
+    int purgeNextBatch() {
+        // 변경 피드가 삭제를 tombstone 으로 내려줄 수 있도록 보존 기간이 지난 일정만 정리합니다.
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(tombstoneRetention);
+        List<Long> todoIds = todoRepository.findDeletedIds(deletedBefore, todoBatchSize);
+        todoIds.forEach(this::purgeTodo);
+        return todoIds.size();
+    }
+
+    private void purgeTodo(Long todoId) {
+        long comments = deleteInChunks(todoId, commentRepository::findIdsByTodoId, commentRepository);
+        long managers = deleteInChunks(todoId, managerRepository::findIdsByTodoId, managerRepository);
+        todoRepository.deleteDeletedById(todoId);
+        log.debug("삭제된 일정 정리 완료: todoId={}, comments={}, managers={}", todoId, comments, managers);
+    }
+
+    private <T> long deleteInChunks(Long todoId, BiFunction<Long, Limit, List<Long>> idFinder, JpaRepository<T, Long> repository) {
+        long deleted = 0;
+        List<Long> ids;
+        do {
+            ids = idFinder.apply(todoId, Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                repository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
+}
@@ -2,34 +2,70 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentService commentService;
     private final WeatherClient weatherClient;
+    private final TodoCountTracker todoCountTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight singleFlight;
 
-    @Transactional
+    // true 이면 날씨 없이 먼저 저장하고 TodoWeatherEnricher 가 나중에 채웁니다.
+    @Value("${todo.weather.async-enrichment:false}")
+    private boolean asyncWeatherEnrichment;
+
+    /**
+     * 날씨 조회는 트랜잭션 밖에서 먼저 수행하고, 저장만 todoRepository.save 의 트랜잭션 안에서 처리합니다.
+     * 외부 API 응답을 기다리는 동안 DB 커넥션을 점유하지 않으며,
+     * 날씨 조회에 실패하면 예외가 그대로 전파되고 일정은 저장되지 않습니다.
+     * 비동기 보강 모드에서는 날씨를 조회하지 않고 Todo.WEATHER_PENDING 으로 저장합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = asyncWeatherEnrichment ? Todo.WEATHER_PENDING : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,6 +74,8 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCountTracker.increment();
+        eventPublisher.publishEvent(new TodoChangedEvent(savedTodo.getId()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -51,33 +89,88 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findTodoResponses(pageable);
+    }
+
+    /**
+     * count(*) 없이 다음 페이지 존재 여부만 확인합니다.
+     * withTotal 이 true 이면 TodoCountTracker 가 유지하는 근사 전체 개수를 함께 반환합니다.
+     */
+    public SliceResponse<TodoResponse> getTodoSlice(int page, int size, boolean withTotal) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Slice<TodoResponse> todos = todoRepository.findTodoResponseSlice(pageable);
+        Long approximateTotal = withTotal ? todoCountTracker.getApproximateCount() : null;
+
+        return new SliceResponse<>(todos.getContent(), page, size, todos.hasNext(), approximateTotal);
+    }
+
+    /**
+     * (modifiedAt, id) 기준 keyset 페이지네이션. OFFSET 과 count(*) 없이 인덱스 범위만 읽으므로
+     * 몇 번째 페이지든 첫 페이지와 같은 비용이 듭니다.
+     */
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회합니다.
+        Limit limit = Limit.of(size + 1);
+        List<TodoResponse> todos;
+        if (cursor == null) {
+            todos = todoRepository.findFirstKeysetPage(limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            todos = todoRepository.findKeysetPageAfter(keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        }
+
+        return CursorResponse.of(todos, size,
+                todo -> new KeysetCursor(todo.getModifiedAt(), todo.getId()).encode());
+    }
+
+    // 조건부 요청마다 실행되므로 본문 조회와 마찬가지로 동시 요청이 하나의 조회를 공유합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResourceVersion getTodoVersion(long todoId) {
+        return singleFlight.execute(SingleFlight.key("todoVersion", todoId), () ->
+                todoRepository.findVersionById(todoId)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found")));
     }
 
+    // 같은 일정에 대한 동시 요청은 SingleFlight 로 하나의 조회를 공유합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        return singleFlight.execute(SingleFlight.key("todo", todoId), () ->
+                todoRepository.findTodoResponseById(todoId)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found")));
+    }
+
+    /**
+     * 일정 상세 화면에 필요한 일정, 담당자, 첫 페이지 댓글을 하나의 읽기 전용 트랜잭션에서
+     * 3개의 쿼리로 조회합니다.
+     */
+    public TodoDetailResponse getTodoDetail(long todoId, int commentSize) {
+        TodoResponse todo = getTodo(todoId);
+        List<ManagerResponse> managers = managerRepository.findResponsesByTodoId(todoId);
+        CursorResponse<CommentResponse> comments = commentService.getComments(todoId, null, commentSize);
+
+        return new TodoDetailResponse(todo, managers, comments);
+    }
+
+    /**
+     * 일정을 soft delete 합니다. 댓글과 담당자는 TodoPurger 가 백그라운드에서 정리합니다.
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Todo todo = todoRepository.findById(todoId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("일정을 만든 유저만 일정을 삭제할 수 있습니다.");
+        }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        todo.delete();
+        todoCountTracker.decrement();
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId));
     }
 }
@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 날씨가 Todo.WEATHER_PENDING 인 일정을 batchSize 단위로 모아
+ * 날씨 조회 한 번과 bulk UPDATE 한 번으로 채웁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todo.weather.async-enrichment", havingValue = "true")
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${todo.weather.batch-size:500}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.flush-interval:PT5S}")
+    public void flush() {
+        try {
+            int updated;
+            do {
+                updated = enrichNextBatch();
+            } while (updated == batchSize);
+        } catch (RuntimeException e) {
+            // 날씨를 가져오지 못하면 PENDING 상태로 두고 다음 주기에 다시 시도합니다.
+            log.warn("일정 날씨 보강에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    public int enrichNextBatch() {
+        List<Long> todoIds = todoRepository.findIdsByWeather(Todo.WEATHER_PENDING, PageRequest.of(0, batchSize));
+        if (todoIds.isEmpty()) {
+            return 0;
+        }
+
+        String weather = weatherClient.getTodayWeather();
+
+        todoRepository.updatePendingWeather(todoIds, Todo.WEATHER_PENDING, weather, LocalDateTime.now());
+        eventPublisher.publishEvent(TodoChangedEvent.bulk());
+        return todoIds.size();
+    }
+}
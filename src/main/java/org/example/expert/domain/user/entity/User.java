@@ -6,13 +6,20 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
 @NoArgsConstructor
 @Table(name = "users")
+@Cacheable
+// 수정 중인 항목을 soft lock 으로 잠가, 수정 커밋과 겹친 동시 조회가 이전 권한이나 비밀번호를 다시 캐시에 넣지 못하게 합니다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User extends Timestamped {
 
+    public static final String CACHE_REGION = "users";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     @Column(unique = true)
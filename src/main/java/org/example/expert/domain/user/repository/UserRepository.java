@@ -2,10 +2,17 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,146 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientResilienceTest {
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private final AtomicLong responseDelayMillis = new AtomicLong();
+
+    private HttpServer server;
+    private WeatherProperties properties;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(responseDelayMillis.get());
+            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+            byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        properties = new WeatherProperties();
+        properties.getApi().setUrl("http://localhost:" + server.getAddress().getPort());
+        properties.getApi().setReadTimeout(Duration.ofMillis(200));
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (weatherClient != null) {
+            weatherClient.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("응답이 read timeout 보다 늦으면 대기하지 않고 실패한다")
+    void readTimeout() {
+        // given
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties);
+        responseDelayMillis.set(1_000);
+
+        // when
+        long start = System.currentTimeMillis();
+        assertThrows(ResourceAccessException.class, () -> weatherClient.getTodayWeather());
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        assertTrue(elapsed < 1_000, "waited " + elapsed + "ms");
+        assertEquals(1, weatherClient.getCallFailureCount());
+    }
+
+    @Test
+    @DisplayName("연속된 5xx 응답 후에는 원격 API 를 호출하지 않고 즉시 실패한다")
+    void circuitOpensAfterRepeatedFailures() {
+        // given
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties);
+        responseStatus.set(503);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+        }
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals("날씨 API 호출이 일시적으로 차단되었습니다.", exception.getMessage());
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+        assertEquals(3, requestCount.get());
+        assertEquals(3, weatherClient.getCallCount());
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나고 시험 호출이 성공하면 다시 호출을 허용한다")
+    void circuitClosesAfterSuccessfulTrial() {
+        // given
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties);
+        responseStatus.set(500);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+        }
+        responseStatus.set(200);
+        sleep(400);
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.getCircuitState());
+        assertTrue(weatherClient.getMaxCallLatency().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    @DisplayName("기본 날씨가 설정되어 있으면 원격 API 실패 시 기본값을 반환한다")
+    void fallbackWeather() {
+        // given
+        properties.setFallback("Unknown");
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties);
+        responseStatus.set(500);
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Unknown", weather);
+        assertNull(weatherClient.getSnapshotAge());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
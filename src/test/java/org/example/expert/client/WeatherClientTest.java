@@ -0,0 +1,79 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@RestClientTest(WeatherClient.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class WeatherClientTest {
+
+    private static final String WEATHER_API_URL = "https://f-api.github.io/f-api/weather.json";
+
+    @Autowired
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @Test
+    @DisplayName("날씨 스냅샷이 있으면 원격 API 를 다시 호출하지 않는다")
+    void getTodayWeatherUsesSnapshot() {
+        // given
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        server.expect(once(), requestTo(WEATHER_API_URL))
+                .andRespond(withSuccess("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]", MediaType.APPLICATION_JSON));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertNotNull(weatherClient.getSnapshotAge());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 실패 시 실패 횟수가 증가한다")
+    void refreshFailureIsCounted() {
+        // given
+        server.expect(once(), requestTo(WEATHER_API_URL))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+        assertEquals(1, weatherClient.getRefreshFailureCount());
+        assertNull(weatherClient.getSnapshotAge());
+    }
+
+    @Test
+    @DisplayName("오늘 날짜의 날씨가 없으면 예외가 발생한다")
+    void getTodayWeatherNotFound() {
+        // given
+        server.expect(once(), requestTo(WEATHER_API_URL))
+                .andRespond(withSuccess("[{\"date\":\"13-32\",\"weather\":\"Sunny\"}]", MediaType.APPLICATION_JSON));
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+}
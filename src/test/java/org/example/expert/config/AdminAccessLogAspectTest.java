@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.audit.controller.AuditAdminController;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.example.expert.domain.audit.service.AuditAdminService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAccessLogAspectTest {
+
+    @Mock
+    private AdminAuditLogger adminAuditLogger;
+    @Mock
+    private AuditAdminService auditAdminService;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/audit");
+        request.setAttribute("userId", 1L);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("감사 로그 조회는 조회 사실만 기록하고 응답 본문은 기록하지 않는다")
+    void auditLogReadIsRecordedWithoutResponseBody() {
+        // given
+        given(auditAdminService.getAuditLogs(any(), any(), any(), anyInt()))
+                .willReturn(List.of(new AuditLogResponse(null, 2L, "/admin/users/2", "{}", "null")));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new AuditAdminController(auditAdminService));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AdminAccessLogAspect(adminAuditLogger));
+        AuditAdminController controller = proxyFactory.getProxy();
+
+        // when
+        controller.getAuditLogs(null, null, null, 100);
+
+        // then
+        ArgumentCaptor<AdminAuditEvent> event = ArgumentCaptor.forClass(AdminAuditEvent.class);
+        verify(adminAuditLogger).publish(event.capture());
+        assertEquals("/admin/audit", event.getValue().getRequestURI());
+        assertEquals(1L, event.getValue().getUserId());
+        assertNull(event.getValue().getResponseBody());
+    }
+}
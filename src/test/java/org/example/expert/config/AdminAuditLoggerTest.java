@@ -0,0 +1,114 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.AdminAuditLogger.OverflowPolicy;
+import org.example.expert.domain.audit.entity.AuditEntry;
+import org.example.expert.domain.audit.repository.AuditLogStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AdminAuditLoggerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuditLogStore auditLogStore = mock(AuditLogStore.class);
+
+    @Test
+    @DisplayName("consumer 스레드가 쌓인 기록을 batch 로 꺼내 기록한다")
+    void consumerWritesInBatches() throws Exception {
+        // given
+        AdminAuditLogger auditLogger = new AdminAuditLogger(objectMapper, auditLogStore, 1024, 100, OverflowPolicy.DROP, Duration.ofMillis(1));
+
+        // when
+        for (int i = 0; i < 250; i++) {
+            auditLogger.publish(event(Map.of("i", i)));
+        }
+        auditLogger.start();
+        auditLogger.stop();
+
+        // then
+        assertEquals(250, auditLogger.getWrittenCount());
+        assertEquals(3, auditLogger.getBatchCount());
+        assertEquals(0, auditLogger.getQueueDepth());
+        assertEquals(250, auditLogger.getMaxQueueDepth());
+        // batch 마다 저장소에는 한 번만 기록한다.
+        verify(auditLogStore, times(3)).append(anyList());
+    }
+
+    @Test
+    @DisplayName("DROP 정책에서는 버퍼가 가득 차면 기록을 버리고 요청 스레드는 기다리지 않는다")
+    void dropWhenFull() {
+        // given
+        AdminAuditLogger auditLogger = new AdminAuditLogger(objectMapper, auditLogStore, 4, 100, OverflowPolicy.DROP, Duration.ofMillis(1));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            auditLogger.publish(event(null));
+        }
+
+        // then
+        assertEquals(4, auditLogger.getQueueDepth());
+        assertEquals(6, auditLogger.getDroppedCount());
+        assertEquals(0, auditLogger.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 정책에서는 버퍼가 가득 차면 요청 스레드가 직접 기록한다")
+    void callerRunsWhenFull() {
+        // given
+        AdminAuditLogger auditLogger = new AdminAuditLogger(objectMapper, auditLogStore, 4, 100, OverflowPolicy.CALLER_RUNS, Duration.ofMillis(1));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            auditLogger.publish(event(null));
+        }
+
+        // then
+        assertEquals(0, auditLogger.getDroppedCount());
+        assertEquals(6, auditLogger.getCallerRunsCount());
+        assertEquals(6, auditLogger.getWrittenCount());
+        assertEquals(4, auditLogger.drain());
+    }
+
+    @Test
+    @DisplayName("요청 본문은 한 줄 JSON 으로, 응답은 직렬화해서 기록한다")
+    void format() {
+        // given
+        AdminAuditLogger auditLogger = new AdminAuditLogger(objectMapper, auditLogStore, 4, 100, OverflowPolicy.DROP, Duration.ofMillis(1));
+        byte[] requestBody = "{\n  \"role\" : \"ADMIN\"\n}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String line = auditLogger.format(auditLogger.toEntry(
+                new AdminAuditEvent(1L, "/admin/users/2", 0L, requestBody, requestBody.length, Map.of("id", 2))));
+
+        // then
+        assertTrue(line.startsWith("[ADMIN] (userId=1) uri=/admin/users/2, time="));
+        assertTrue(line.endsWith("requestBody={\"role\":\"ADMIN\"}, responseBody={\"id\":2}"));
+    }
+
+    @Test
+    @DisplayName("캡처 상한에서 잘린 본문은 JSON 으로 해석하지 않고 앞부분 뒤에 잘림 표시와 전체 크기를 붙인다")
+    void formatTruncatedBody() {
+        // given
+        AdminAuditLogger auditLogger = new AdminAuditLogger(objectMapper, auditLogStore, 4, 100, OverflowPolicy.DROP, Duration.ofMillis(1));
+        byte[] captured = "[{\"title\":\"a\"},{\"ti".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        AuditEntry entry = auditLogger.toEntry(new AdminAuditEvent(1L, "/admin/todos/import", 0L, captured, 10_000, null));
+
+        // then
+        assertEquals("[{\"title\":\"a\"},{\"ti" + AdminAuditLogger.TRUNCATED_MARKER + "(captured=" + captured.length + ", total=10000)",
+                entry.getRequestBody());
+    }
+
+    private AdminAuditEvent event(Object response) {
+        return new AdminAuditEvent(1L, "/admin/todos", System.currentTimeMillis(), new byte[0], 0, response);
+    }
+}
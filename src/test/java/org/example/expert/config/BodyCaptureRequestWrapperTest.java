@@ -0,0 +1,74 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BodyCaptureRequestWrapperTest {
+
+    private final RequestBodyBufferPool bufferPool = new RequestBodyBufferPool(8, 4);
+
+    @Test
+    @DisplayName("상한 이하의 본문은 그대로 캡처하고 잘림 표시를 하지 않는다")
+    void captureWholeBody() throws IOException {
+        // given
+        BodyCaptureRequestWrapper wrapper = new BodyCaptureRequestWrapper(request("{\"a\":1}"), bufferPool);
+
+        // when
+        String read = new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        // then
+        assertEquals("{\"a\":1}", read);
+        assertArrayEquals("{\"a\":1}".getBytes(StandardCharsets.UTF_8), wrapper.getCapturedBody());
+        assertFalse(wrapper.isTruncated());
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 본문은 컨트롤러에 그대로 전달하고 앞부분만 캡처한다")
+    void captureUpToCap() throws IOException {
+        // given
+        String body = "0123456789abcdef";
+        BodyCaptureRequestWrapper wrapper = new BodyCaptureRequestWrapper(request(body), bufferPool);
+
+        // when
+        String read = wrapper.getReader().readLine();
+
+        // then
+        assertEquals(body, read);
+        assertEquals("01234567", new String(wrapper.getCapturedBody(), StandardCharsets.UTF_8));
+        assertEquals(16, wrapper.getTotalLength());
+        assertTrue(wrapper.isTruncated());
+    }
+
+    @Test
+    @DisplayName("반납된 버퍼는 다음 요청에서 재사용되고, 이전에 꺼낸 복사본은 바뀌지 않는다")
+    void bufferIsReusedAfterRelease() throws IOException {
+        // given
+        BodyCaptureRequestWrapper first = new BodyCaptureRequestWrapper(request("first"), bufferPool);
+        first.getInputStream().readAllBytes();
+        byte[] captured = first.getCapturedBody();
+        first.release();
+
+        // when
+        BodyCaptureRequestWrapper second = new BodyCaptureRequestWrapper(request("second!"), bufferPool);
+        second.getInputStream().readAllBytes();
+
+        // then
+        assertEquals(1, bufferPool.getReuseCount());
+        assertEquals(1, bufferPool.getAllocationCount());
+        assertEquals("first", new String(captured, StandardCharsets.UTF_8));
+        assertEquals("second!", new String(second.getCapturedBody(), StandardCharsets.UTF_8));
+    }
+
+    private MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/todos/import");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setCharacterEncoding("UTF-8");
+        return request;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, EntityCacheMetrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 2차 캐시는 커밋 이후에 채워지므로 트랜잭션마다 커밋합니다.
+class EntityCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityCacheMetrics entityCacheMetrics;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("사용자 권한을 변경하면 캐시된 사용자가 갱신되고 다음 조회에 변경된 권한이 보인다")
+    void userCacheInvalidatedOnUpdateRole() {
+        // given
+        Long userId = userRepository.save(new User("cache-role@a.com", "password", UserRole.USER)).getId();
+        findUser(userId);
+        long hits = entityCacheMetrics.getHitCount(User.CACHE_REGION);
+
+        // when
+        assertEquals(UserRole.USER, findUser(userId).getUserRole());
+        inTransaction(() -> userRepository.findById(userId).orElseThrow().updateRole(UserRole.ADMIN));
+
+        // then
+        assertEquals(hits + 2, entityCacheMetrics.getHitCount(User.CACHE_REGION));
+        assertEquals(UserRole.ADMIN, findUser(userId).getUserRole());
+        assertTrue(entityCacheMetrics.getHitRatio(User.CACHE_REGION) > 0);
+    }
+
+    @Test
+    @DisplayName("비밀번호를 변경하면 캐시된 사용자가 갱신된다")
+    void userCacheInvalidatedOnChangePassword() {
+        // given
+        Long userId = userRepository.save(new User("cache-password@a.com", "old", UserRole.USER)).getId();
+        findUser(userId);
+
+        // when
+        inTransaction(() -> userRepository.findById(userId).orElseThrow().changePassword("new"));
+
+        // then
+        assertEquals("new", findUser(userId).getPassword());
+    }
+
+    @Test
+    @DisplayName("soft delete 된 일정은 id 조회에서 삭제된 일정으로 보인다")
+    void todoCacheInvalidatedOnDelete() {
+        // given
+        User user = userRepository.save(new User("cache-todo@a.com", "password", UserRole.USER));
+        Long todoId = todoRepository.save(new Todo("title", "contents", "Sunny", user)).getId();
+        assertTrue(inTransaction(() -> todoRepository.findById(todoId).isPresent()));
+
+        // when
+        inTransaction(() -> {
+            todoRepository.findById(todoId).orElseThrow().delete();
+            return null;
+        });
+
+        // then
+        assertFalse(inTransaction(() -> todoRepository.findById(todoId).filter(todo -> !todo.isDeleted()).isPresent()));
+    }
+
+    @Test
+    @DisplayName("권한 변경 커밋 전에 시작한 조회가 이전 상태를 읽어도 캐시에 다시 넣지 못한다")
+    void concurrentLoadDoesNotRestoreOldRole() {
+        // given
+        Long userId = userRepository.save(new User("cache-race@a.com", "password", UserRole.USER)).getId();
+
+        // when
+        // 먼저 시작한 조회 트랜잭션이 스냅샷을 잡은 뒤 다른 트랜잭션이 권한 변경을 커밋하고, 그 다음에 스냅샷에서 이전 상태를 읽는다.
+        inSnapshotTransaction(() -> {
+            assertEquals("USER", entityManager.createNativeQuery("SELECT user_role FROM users WHERE id = :id")
+                    .setParameter("id", userId).getSingleResult());
+            inNewTransaction(() -> userRepository.findById(userId).orElseThrow().updateRole(UserRole.ADMIN));
+            assertEquals(UserRole.USER, userRepository.findById(userId).orElseThrow().getUserRole());
+        });
+
+        // then
+        assertEquals(UserRole.ADMIN, findUser(userId).getUserRole());
+    }
+
+    @Test
+    @DisplayName("삭제 커밋 전에 시작한 조회가 삭제 전 상태를 읽어도 이후 id 조회는 삭제된 일정으로 본다")
+    void concurrentLoadDoesNotRestoreDeletedTodo() {
+        // given
+        User user = userRepository.save(new User("cache-todo-race@a.com", "password", UserRole.USER));
+        Long todoId = todoRepository.save(new Todo("title", "contents", "Sunny", user)).getId();
+
+        // when
+        inSnapshotTransaction(() -> {
+            assertNull(entityManager.createNativeQuery("SELECT deleted_at FROM todos WHERE id = :id")
+                    .setParameter("id", todoId).getSingleResult());
+            inNewTransaction(() -> todoRepository.findById(todoId).orElseThrow().delete());
+            todoRepository.findById(todoId);
+        });
+
+        // then
+        assertFalse(inTransaction(() -> todoRepository.findById(todoId).filter(todo -> !todo.isDeleted()).isPresent()));
+    }
+
+    private User findUser(Long userId) {
+        return inTransaction(() -> userRepository.findById(userId).orElseThrow());
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    // 첫 조회 시점의 스냅샷을 트랜잭션 끝까지 읽는 조회 트랜잭션. 커밋 직전에 DB 를 읽은 동시 조회를 재현합니다.
+    private void inSnapshotTransaction(Runnable action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+
+    private void inNewTransaction(Runnable action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCacheTest {
+
+    @Test
+    void 검증된_토큰은_캐시에서_조회된다() {
+        // given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        jwtTokenCache.put("token", authUser, System.currentTimeMillis() + 60_000);
+
+        // when
+        AuthUser cached = jwtTokenCache.get("token");
+
+        // then
+        assertSame(authUser, cached);
+        assertEquals(1, jwtTokenCache.getHitCount());
+        assertEquals(0, jwtTokenCache.getMissCount());
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에서_제거된다() {
+        // given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10);
+        jwtTokenCache.put("token", new AuthUser(1L, "a@a.com", UserRole.USER), System.currentTimeMillis() + 50);
+
+        // when
+        sleep(100);
+        AuthUser cached = jwtTokenCache.get("token");
+
+        // then
+        assertNull(cached);
+        assertEquals(0, jwtTokenCache.size());
+        assertEquals(1, jwtTokenCache.getMissCount());
+        assertEquals(1, jwtTokenCache.getEvictionCount());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용되지_않은_토큰을_제거한다() {
+        // given
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        jwtTokenCache.put("token1", new AuthUser(1L, "a@a.com", UserRole.USER), expiresAt);
+        jwtTokenCache.put("token2", new AuthUser(2L, "b@b.com", UserRole.USER), expiresAt);
+        jwtTokenCache.get("token1");
+
+        // when
+        jwtTokenCache.put("token3", new AuthUser(3L, "c@c.com", UserRole.USER), expiresAt);
+
+        // then
+        assertEquals(2, jwtTokenCache.size());
+        assertNotNull(jwtTokenCache.get("token1"));
+        assertNull(jwtTokenCache.get("token2"));
+        assertNotNull(jwtTokenCache.get("token3"));
+        assertEquals(1, jwtTokenCache.getEvictionCount());
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(SECRET));
+        jwtUtil.init();
+    }
+
+    @Test
+    void verifyToken은_extractClaims와_같은_claim을_읽는다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.ADMIN));
+
+        // when
+        VerifiedToken verifiedToken = jwtUtil.verifyToken(token);
+        Claims claims = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals(Long.parseLong(claims.getSubject()), verifiedToken.getUserId());
+        assertEquals(claims.get("email", String.class), verifiedToken.getEmail());
+        assertEquals(UserRole.valueOf(claims.get("userRole", String.class)), verifiedToken.getUserRole());
+        assertEquals(claims.getExpiration().getTime(), verifiedToken.getExpiresAt());
+    }
+
+    @Test
+    void 서명이_변조된_토큰은_거부한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"1\",\"email\":\"a@a.com\",\"userRole\":\"ADMIN\",\"exp\":9999999999}".getBytes(StandardCharsets.UTF_8));
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        // when & then
+        assertThrows(SignatureException.class, () -> jwtUtil.verifyToken(forged));
+    }
+
+    @Test
+    void 만료된_토큰은_거부한다() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "a@a.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verifyToken(token));
+    }
+
+    @Test
+    void HS256이_아닌_토큰은_거부한다() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .compact();
+
+        // when & then
+        assertThrows(UnsupportedJwtException.class, () -> jwtUtil.verifyToken(token + "c2ln"));
+    }
+}
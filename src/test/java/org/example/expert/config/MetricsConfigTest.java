@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,prometheus",
+        "jwt.secret.key=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DirtiesContext
+class MetricsConfigTest {
+
+    // 감사 로그 디렉터리는 인스턴스 하나만 쓸 수 있으므로 컨텍스트마다 별도 디렉터리를 씁니다.
+    @TempDir
+    static Path auditLogDirectory;
+
+    @DynamicPropertySource
+    static void auditLogProperties(DynamicPropertyRegistry registry) {
+        registry.add("admin.audit.store.directory", auditLogDirectory::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("요청을 처리한 뒤 /actuator/prometheus 를 수집하면 지연 histogram 과 hot path 지표가 노출된다")
+    void scrapePrometheus() throws Exception {
+        // given
+        String bearerToken = signup("metrics@a.com");
+
+        mockMvc.perform(get("/todos").header("Authorization", bearerToken))
+                .andExpect(status().isOk());
+
+        // when
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertContains(scrape, "http_server_requests_seconds_bucket{");
+        assertContains(scrape, "uri=\"/auth/signup\"");
+        assertContains(scrape, "jwt_verification_seconds_bucket{");
+        assertContains(scrape, "password_encoder_seconds_bucket{");
+        assertContains(scrape, "operation=\"encode\"");
+        assertContains(scrape, "hikaricp_connections_acquire_seconds_bucket{");
+        assertContains(scrape, "jwt_token_cache_misses_total");
+        assertContains(scrape, "entity_cache_hits_total{region=");
+        assertContains(scrape, "admin_audit_queue_capacity");
+        assertContains(scrape, "weather_circuit_open");
+    }
+
+    @Test
+    @DisplayName("management 포트를 분리하지 않으면 /actuator/health 외의 엔드포인트는 토큰을 요구한다")
+    void actuatorRequiresTokenExceptHealth() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String signup(String email) throws Exception {
+        SignupRequest signupRequest = new SignupRequest(email, "password", "USER");
+        String signupResponse = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(signupResponse).get("bearerToken").asText();
+    }
+
+    private static void assertContains(String scrape, String expected) {
+        assertTrue(scrape.contains(expected), () -> expected + " 가 수집 결과에 없습니다.");
+    }
+}
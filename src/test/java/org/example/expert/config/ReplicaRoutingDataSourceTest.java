@@ -0,0 +1,128 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "jwt.secret.key=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=",
+        "spring.datasource.url=" + ReplicaRoutingDataSourceTest.PRIMARY_URL,
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.lag.query=SELECT seconds FROM replica_lag",
+        "datasource.replica.lag.max-lag=PT1S",
+        "datasource.replica.lag.check-interval=PT1H"
+})
+@DirtiesContext
+class ReplicaRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    // 감사 로그 디렉터리는 인스턴스 하나만 쓸 수 있으므로 컨텍스트마다 별도 디렉터리를 씁니다.
+    @TempDir
+    static Path auditLogDirectory;
+
+    @DynamicPropertySource
+    static void auditLogProperties(DynamicPropertyRegistry registry) {
+        registry.add("admin.audit.store.directory", auditLogDirectory::toString);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private HikariDataSource replicaDataSource;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JdbcTemplate replicaSetup = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        // 두 H2 데이터베이스에 서로 다른 값을 넣어 어느 쪽으로 라우팅됐는지 확인한다.
+        JdbcTemplate primarySetup = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+        for (JdbcTemplate setup : new JdbcTemplate[]{primarySetup, replicaSetup}) {
+            setup.execute("CREATE TABLE IF NOT EXISTS db_role (name VARCHAR(20))");
+            setup.execute("DELETE FROM db_role");
+        }
+        primarySetup.update("INSERT INTO db_role VALUES ('primary')");
+        replicaSetup.update("INSERT INTO db_role VALUES ('replica')");
+
+        replicaSetup.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE)");
+        replicaSetup.execute("DELETE FROM replica_lag");
+        replicaSetup.update("INSERT INTO replica_lag VALUES (0)");
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 로, 쓰기 트랜잭션은 primary 로 라우팅된다")
+    void routeByReadOnly() {
+        assertEquals("replica", currentDatabase(true));
+        assertEquals("primary", currentDatabase(false));
+    }
+
+    @Test
+    @DisplayName("PrimaryReads 로 감싼 읽기 전용 트랜잭션은 primary 로 라우팅되고, 구간이 끝나면 다시 replica 로 읽는다")
+    void routeToPrimaryWithinPrimaryReads() {
+        assertEquals("primary", PrimaryReads.call(() -> currentDatabase(true)));
+        assertEquals("primary", PrimaryReads.call(() -> PrimaryReads.call(() -> currentDatabase(true))));
+        assertEquals("replica", currentDatabase(true));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary 로 라우팅된다")
+    void routeToPrimaryWhenReplicaLags() {
+        // given
+        replicaSetup.update("UPDATE replica_lag SET seconds = 10");
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertFalse(replicaLagMonitor.isAvailable());
+        assertEquals("primary", currentDatabase(true));
+
+        // 지연이 해소되면 다시 replica 로 읽는다.
+        replicaSetup.update("UPDATE replica_lag SET seconds = 0");
+        replicaLagMonitor.check();
+        assertEquals("replica", currentDatabase(true));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("replica 에 연결할 수 없으면 primary 로 읽는다")
+    void fallbackToPrimary() {
+        // given
+        replicaDataSource.close();
+
+        // when & then
+        assertEquals("primary", currentDatabase(true));
+        assertFalse(replicaLagMonitor.isAvailable());
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM db_role", String.class));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 테스트에서 특정 동작이 실행하는 SQL 문 수를 고정합니다. MockMvc 요청처럼 같은 스레드에서 실행되는 동작만 셀 수 있습니다.
+ *
+ * <pre>
+ * assertStatementCountAtMost(2, () -> mockMvc.perform(get("/todos")));
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static SqlStatementCounter.Snapshot countStatements(Executable executable) throws Throwable {
+        SqlStatementCounter.Snapshot start = SqlStatementCounter.snapshot();
+        executable.execute();
+        return SqlStatementCounter.snapshot().since(start);
+    }
+
+    public static void assertStatementCountAtMost(long max, Executable executable) throws Throwable {
+        long actual = countStatements(executable).getStatementCount();
+        assertTrue(actual <= max, () -> "SQL 이 " + max + "건 이하로 실행되어야 하지만 " + actual + "건 실행되었습니다.");
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoPageCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.example.expert.config.SqlStatementAssertions.assertStatementCountAtMost;
+import static org.example.expert.config.SqlStatementAssertions.countStatements;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "jwt.secret.key=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=")
+@AutoConfigureMockMvc
+@DirtiesContext
+class SqlStatementFilterTest {
+
+    // 감사 로그 디렉터리는 인스턴스 하나만 쓸 수 있으므로 컨텍스트마다 별도 디렉터리를 씁니다.
+    @TempDir
+    static Path auditLogDirectory;
+
+    @DynamicPropertySource
+    static void auditLogProperties(DynamicPropertyRegistry registry) {
+        registry.add("admin.audit.store.directory", auditLogDirectory::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private TodoPageCache todoPageCache;
+
+    private String bearerToken;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("sql-counter@a.com")
+                .orElseGet(() -> userRepository.save(new User("sql-counter@a.com", "password", UserRole.USER)));
+        for (int i = 0; i < 3; i++) {
+            todoRepository.save(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        // 저장소에 직접 저장하면 무효화 이벤트가 발행되지 않으므로, 다른 테스트가 채운 페이지 캐시를 비워 항상 DB 에서 읽게 합니다.
+        todoPageCache.invalidate();
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 GET /todos 는 일정 수와 관계없이 목록과 count 두 개의 SQL 만 실행한다")
+    void getTodosStatementCount() throws Throwable {
+        // 첫 페이지가 가득 차지 않으면 Spring Data 가 count 를 생략하므로, 저장한 일정 수보다 작은 size 로 요청합니다.
+        SqlStatementCounter.Snapshot statements = countStatements(() ->
+                mockMvc.perform(get("/todos").param("size", "2").header("Authorization", bearerToken))
+                        .andExpect(status().isOk()));
+
+        assertEquals(2, statements.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("요청마다 실행한 SQL 문 수와 DB 시간이 엔드포인트별로 기록된다")
+    void recordsPerEndpoint() throws Throwable {
+        // given
+        DistributionSummary before = meterRegistry.find("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/todos")
+                .summary();
+        long countBefore = before == null ? 0 : before.count();
+
+        // when
+        SqlStatementCounter.Snapshot statements = countStatements(() ->
+                mockMvc.perform(get("/todos").header("Authorization", bearerToken)).andExpect(status().isOk()));
+
+        // then
+        DistributionSummary after = meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/todos")
+                .summary();
+        assertEquals(countBefore + 1, after.count());
+        assertTrue(statements.getStatementCount() > 0);
+        assertTrue(statements.getExecutionNanos() > 0);
+        assertNotNull(meterRegistry.find("http.server.requests.sql.time").tags("uri", "/todos").timer());
+    }
+
+    @Test
+    @DisplayName("허용한 건수보다 SQL 이 많이 실행되면 assertion 이 실패한다")
+    void assertionFailsAboveLimit() {
+        assertThrows(AssertionFailedError.class, () -> assertStatementCountAtMost(0, () -> todoRepository.count()));
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AuditEntry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private AuditLogStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("userId 와 시각 구간으로 조회하면 해당 기록만 최신순으로 반환한다")
+    void findByUserAndTime() throws IOException {
+        // given
+        store = open(DataSize.ofMegabytes(1));
+        store.append(List.of(entry(1000, 1L), entry(2000, 2L), entry(3000, 1L)));
+        store.append(List.of(entry(4000, 1L), entry(5000, null)));
+
+        // when
+        List<AuditEntry> byUser = store.find(1L, 1500, 5000, 10);
+        List<AuditEntry> all = store.find(null, Long.MIN_VALUE, Long.MAX_VALUE, 3);
+
+        // then
+        assertEquals(List.of(4000L, 3000L), byUser.stream().map(AuditEntry::getTimestamp).toList());
+        assertEquals("/admin/users/1", byUser.get(0).getRequestURI());
+        assertEquals("{\"role\":\"ADMIN\"}", byUser.get(0).getRequestBody());
+        assertEquals(List.of(5000L, 4000L, 3000L), all.stream().map(AuditEntry::getTimestamp).toList());
+        assertNull(all.get(0).getUserId());
+    }
+
+    @Test
+    @DisplayName("세그먼트 크기를 넘으면 새 세그먼트로 넘어가고, 조회는 여러 세그먼트에 걸쳐 이어진다")
+    void rotateBySize() throws IOException {
+        // given
+        store = open(DataSize.ofBytes(200));
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            store.append(List.of(entry(i * 1000L, 7L)));
+        }
+
+        // then
+        assertTrue(store.getSegmentCount() > 1);
+        assertEquals(List.of(5000L, 4000L, 3000L, 2000L, 1000L),
+                store.find(7L, 0, Long.MAX_VALUE, 10).stream().map(AuditEntry::getTimestamp).toList());
+        assertTrue(store.find(8L, 0, Long.MAX_VALUE, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("다시 열면 닫힌 세그먼트의 색인을 읽고, 색인이 없는 세그먼트는 잘린 꼬리를 버린 뒤 색인을 다시 만든다")
+    void reopenRecoversSegments() throws IOException {
+        // given
+        store = open(DataSize.ofMegabytes(1));
+        store.append(List.of(entry(1000, 1L), entry(2000, 1L)));
+        store.close();
+
+        // 색인이 남지 않은 채 종료되고 마지막 레코드가 잘린 상황을 만든다.
+        Path segment = segments().get(0);
+        Files.delete(Path.of(segment.toString().replace(".log", ".idx")));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // when
+        store = open(DataSize.ofMegabytes(1));
+        store.append(List.of(entry(3000, 1L)));
+
+        // then
+        assertEquals(List.of(3000L, 1000L),
+                store.find(1L, 0, Long.MAX_VALUE, 10).stream().map(AuditEntry::getTimestamp).toList());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 레코드는 본문을 잘라 기록하므로, 복구 후에도 그 뒤의 기록이 남는다")
+    void oversizedRecordIsTruncated() throws IOException {
+        // given
+        String largeBody = "a".repeat(9 * 1024 * 1024);
+        store = open(DataSize.ofMegabytes(64));
+        store.append(List.of(new AuditEntry(1000, 1L, "/admin/audit", largeBody, largeBody)));
+        store.append(List.of(entry(2000, 1L)));
+        store.close();
+        Path segment = segments().get(0);
+        Files.delete(Path.of(segment.toString().replace(".log", ".idx")));
+
+        // when
+        store = open(DataSize.ofMegabytes(64));
+        List<AuditEntry> entries = store.find(null, 0, Long.MAX_VALUE, 10);
+
+        // then
+        assertEquals(List.of(2000L, 1000L), entries.stream().map(AuditEntry::getTimestamp).toList());
+        assertTrue(entries.get(1).getResponseBody().endsWith("...(truncated)"));
+        assertTrue(entries.get(1).getRequestBody().length() < largeBody.length());
+    }
+
+    @Test
+    @DisplayName("세그먼트가 없는 색인과 임시 색인은 열 때 지워, 같은 번호로 새로 만든 세그먼트를 가리지 않는다")
+    void orphanIndexIsDeletedOnOpen() throws IOException {
+        // given
+        Files.write(directory.resolve("00000000000000000000.idx"), new byte[]{1, 2, 3});
+        Files.write(directory.resolve("00000000000000000001.idx.tmp"), new byte[]{1, 2, 3});
+
+        // when
+        store = open(DataSize.ofMegabytes(1));
+        store.append(List.of(entry(1000, 1L)));
+        store.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertFalse(files.anyMatch(path -> path.toString().endsWith(".tmp")));
+        }
+        store = open(DataSize.ofMegabytes(1));
+
+        // then
+        assertEquals(List.of(1000L), store.find(1L, 0, Long.MAX_VALUE, 10).stream().map(AuditEntry::getTimestamp).toList());
+    }
+
+    @Test
+    @DisplayName("기록 없이 닫힌 세그먼트는 색인도 남기지 않는다")
+    void emptySegmentLeavesNoIndex() throws IOException {
+        // given
+        store = open(DataSize.ofMegabytes(1));
+
+        // when
+        store.close();
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(".lock"), files.map(path -> path.getFileName().toString()).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 사용 중인 디렉터리는 열 수 없다")
+    void directoryIsLockedByOneInstance() throws IOException {
+        // given
+        store = open(DataSize.ofMegabytes(1));
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> open(DataSize.ofMegabytes(1)));
+        assertTrue(exception.getMessage().startsWith("감사 로그 디렉터리를 다른 인스턴스가 사용 중입니다."));
+    }
+
+    @Test
+    @DisplayName("마지막 기록이 보존 기간보다 오래된 세그먼트는 새 세그먼트를 열 때 삭제한다")
+    void expiredSegmentsAreDeleted() throws IOException {
+        // given
+        long now = System.currentTimeMillis();
+        store = open(DataSize.ofBytes(50), Duration.ofDays(1));
+        store.append(List.of(entry(now - Duration.ofDays(2).toMillis(), 1L)));
+
+        // when
+        store.append(List.of(entry(now, 1L)));
+        store.append(List.of(entry(now + 1, 1L)));
+
+        // then
+        assertEquals(List.of(now + 1, now),
+                store.find(1L, 0, Long.MAX_VALUE, 10).stream().map(AuditEntry::getTimestamp).toList());
+        assertEquals(2, segments().size());
+    }
+
+    // 다른 테스트는 1970 년 근처의 시각으로 기록하므로 retention 으로 지워지지 않도록 충분히 길게 둡니다.
+    private AuditLogStore open(DataSize maxSegmentSize) throws IOException {
+        return open(maxSegmentSize, Duration.ofDays(365 * 100));
+    }
+
+    private AuditLogStore open(DataSize maxSegmentSize, Duration retention) throws IOException {
+        AuditLogStore auditLogStore = new AuditLogStore(directory, maxSegmentSize, Duration.ofHours(1), retention);
+        auditLogStore.open();
+        return auditLogStore;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private AuditEntry entry(long timestamp, Long userId) {
+        return new AuditEntry(timestamp, userId, "/admin/users/" + userId, "{\"role\":\"ADMIN\"}", null);
+    }
+}
@@ -6,6 +6,8 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +18,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.LongStream;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -78,6 +86,7 @@ class CommentControllerTest {
                 .mapToObj(this::createCommentResponse)
                 .toList();
 
+        given(commentService.getCommentsVersion(todoId)).willReturn(new ResourceVersion(3L, 3L, LocalDateTime.now()));
         given(commentService.getComments(todoId)).willReturn(resultList);
 
         // when & then
@@ -88,12 +97,57 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$[0].id").value(resultList.get(0).getId()))
                 .andExpect(jsonPath("$[0].contents").value(resultList.get(0).getContents()))
                 .andExpect(jsonPath("$[0].user.id").value(resultList.get(0).getUser().getId()))
-                .andExpect(jsonPath("$[0].user.email").value(resultList.get(0).getUser().getEmail()));
+                .andExpect(jsonPath("$[0].user.email").value(resultList.get(0).getUser().getEmail()))
+                .andExpect(header().string("ETag", startsWith("W/")));
+    }
+
+    @Test
+    @DisplayName("cursor 로 댓글을 나눠 조회하면 다음 cursor 와 함께 반환한다")
+    void getCommentsByCursorSuccess() throws Exception {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> resultList = LongStream.rangeClosed(1, 3)
+                .mapToObj(this::createCommentResponse)
+                .toList();
+
+        given(commentService.getCommentsVersion(todoId)).willReturn(new ResourceVersion(3L, 3L, LocalDateTime.now()));
+        given(commentService.getComments(todoId, "cursor", 3))
+                .willReturn(new CursorResponse<>(resultList, "next"));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments/cursor", todoId)
+                        .param("cursor", "cursor")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.length()").value(resultList.size()))
+                .andExpect(jsonPath("$.content[0].id").value(resultList.get(0).getId()))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(header().string("ETag", startsWith("W/")));
+    }
+
+    @Test
+    @DisplayName("댓글 목록이 바뀌지 않았으면 본문 없이 304 를 반환한다")
+    void getCommentsNotModified() throws Exception {
+        // given
+        long todoId = 1L;
+        ResourceVersion version = new ResourceVersion(3L, 3L, LocalDateTime.now());
+        given(commentService.getCommentsVersion(todoId)).willReturn(version);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", todoId)
+                        .header("If-None-Match", version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(commentService, never()).getComments(anyLong());
+        verify(commentService, never()).getComments(anyLong(), any(), anyInt());
     }
 
     private CommentResponse createCommentResponse(long id) {
         UserResponse userResponse = new UserResponse(id, "temp" + id + "@a.com");
-        return new CommentResponse(id, "contents" + id, userResponse);
+        return new CommentResponse(id, "contents" + id, userResponse, LocalDateTime.now());
     }
 
 }
\ No newline at end of file
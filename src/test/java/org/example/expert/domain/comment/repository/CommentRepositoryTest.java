@@ -0,0 +1,92 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class CommentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Long todoId;
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+        Todo todo = entityManager.persist(new Todo("title", "contents", "Sunny", user));
+        Todo otherTodo = entityManager.persist(new Todo("other", "contents", "Sunny", user));
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        // 같은 createdAt 을 가진 댓글이 섞여 있어도 id 로 순서가 결정되어야 한다.
+        for (int i = 0; i < 5; i++) {
+            Comment comment = new Comment("contents" + i, user, todo);
+            ReflectionTestUtils.setField(comment, "createdAt", base.plusMinutes(i / 2));
+            expectedOrder.add(entityManager.persist(comment).getId());
+        }
+        entityManager.persist(new Comment("other", user, otherTodo));
+        entityManager.flush();
+        entityManager.clear();
+
+        todoId = todo.getId();
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 이어서 조회하면 해당 일정의 댓글이 중복이나 누락 없이 (createdAt, id) 순으로 조회된다")
+    void keysetPagination() {
+        // given
+        List<Long> actualOrder = new ArrayList<>();
+
+        // when
+        List<CommentResponse> page = commentRepository.findFirstResponsesByTodoId(todoId, Limit.of(2));
+        while (!page.isEmpty()) {
+            page.forEach(comment -> actualOrder.add(comment.getId()));
+            CommentResponse last = page.get(page.size() - 1);
+            page = commentRepository.findResponsesByTodoIdAfter(todoId, last.getCreatedAt(), last.getId(), Limit.of(2));
+        }
+
+        // then
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    @DisplayName("댓글이 추가되면 댓글 목록의 ETag 가 바뀐다")
+    void versionChangesWhenCommentAdded() {
+        // given
+        ResourceVersion before = commentRepository.findVersionByTodoId(todoId);
+        Todo todo = entityManager.find(Todo.class, todoId);
+        entityManager.persist(new Comment("new", todo.getUser(), todo));
+        entityManager.flush();
+
+        // when
+        ResourceVersion after = commentRepository.findVersionByTodoId(todoId);
+
+        // then
+        assertTrue(before.getETag().startsWith("W/\"5-"));
+        assertNotEquals(before.getETag(), after.getETag());
+    }
+}
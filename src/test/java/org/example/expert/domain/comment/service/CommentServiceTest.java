@@ -5,7 +5,10 @@ import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -16,9 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.LongStream;
@@ -27,6 +34,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -35,6 +45,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(mock(PlatformTransactionManager.class));
     @InjectMocks
     private CommentService commentService;
 
@@ -56,6 +68,24 @@ class CommentServiceTest {
         assertEquals("Todo not found", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("2차 캐시에서 삭제된 일정이 반환되어도 댓글을 등록하지 않는다")
+    void saveCommentOnDeletedTodo() {
+        // given
+        User user = new User("email", "password", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        todo.delete();
+        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentService.saveComment(new AuthUser(1L, "email", UserRole.USER), 1L, new CommentSaveRequest("contents")));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verify(commentRepository, never()).save(any());
+    }
+
     @Test
     public void comment를_정상적으로_등록한다() {
         // given
@@ -85,19 +115,81 @@ class CommentServiceTest {
         List<Comment> commentList = LongStream.rangeClosed(1, 3)
                 .mapToObj(id -> createCommentWithNewUser(id, todo))
                 .toList();
+        List<CommentResponse> projectionList = commentList.stream()
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        comment.getUser().getId(),
+                        comment.getUser().getEmail(),
+                        LocalDateTime.of(2024, 1, 1, 0, 0)
+                ))
+                .toList();
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findFirstResponsesByTodoId(todoId, Limit.of(3))).willReturn(projectionList);
 
         // when
-        List<CommentResponse> resultList = commentService.getComments(todoId);
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId, null, 2);
 
         //then
-        assertNotNull(resultList);
-        assertEquals(commentList.size(), resultList.size());
-
-        for (int i = 0; i < commentList.size(); i++) {
+        List<CommentResponse> resultList = result.getContent();
+        assertEquals(2, resultList.size());
+        for (int i = 0; i < resultList.size(); i++) {
             assertCommentEquals(commentList.get(i), resultList.get(i));
         }
+
+        KeysetCursor nextCursor = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(projectionList.get(1).getCreatedAt(), nextCursor.getTimestamp());
+        assertEquals(projectionList.get(1).getId(), nextCursor.getId());
+    }
+
+    @Test
+    @DisplayName("cursor 없는 댓글 조회는 일정의 댓글 전체를 목록으로 반환한다")
+    void getAllCommentsSuccess() {
+        // given
+        long todoId = 1L;
+        List<CommentResponse> projectionList = List.of(
+                new CommentResponse(1L, "contents1", 1L, "a@a.com", LocalDateTime.of(2024, 1, 1, 0, 0)),
+                new CommentResponse(2L, "contents2", 2L, "b@b.com", LocalDateTime.of(2024, 1, 1, 0, 1))
+        );
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(projectionList);
+
+        // when
+        List<CommentResponse> result = commentService.getComments(todoId);
+
+        // then
+        assertEquals(projectionList, result);
+    }
+
+    @Test
+    @DisplayName("cursor 가 주어지면 cursor 이후의 댓글을 조회한다")
+    void getCommentsAfterCursor() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String cursor = new KeysetCursor(createdAt, 2L).encode();
+        List<CommentResponse> projectionList = List.of(new CommentResponse(3L, "contents3", 1L, "a@a.com", createdAt));
+
+        given(commentRepository.findResponsesByTodoIdAfter(todoId, createdAt, 2L, Limit.of(11))).willReturn(projectionList);
+
+        // when
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId, cursor, 10);
+
+        // then
+        assertEquals(projectionList, result.getContent());
+        assertNull(result.getNextCursor());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    @DisplayName("size 가 범위를 벗어나면 댓글 조회에 실패한다")
+    void getCommentsInvalidSize() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentService.getComments(1L, null, 0)
+        );
+
+        // then
+        assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
     }
 
     private Comment createCommentWithNewUser(long id, Todo todo) {
@@ -0,0 +1,88 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 가득 차면 offer 가 false 를 반환한다")
+    void fifoAndFull() {
+        // given
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // then
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("capacity 가 2의 거듭제곱이 아니면 생성할 수 없다")
+    void capacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedRingBuffer<>(1000));
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 소비자는 유실이나 중복 없이 모두 꺼낸다")
+    void concurrentProducers() throws Exception {
+        // given
+        int producers = 8;
+        int perProducer = 10_000;
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        List<Integer> consumed = new ArrayList<>(producers * perProducer);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                consumed.add(value);
+            }
+        }
+        executor.shutdownNow();
+
+        // then
+        Set<Integer> unique = new HashSet<>(consumed);
+        assertEquals(producers * perProducer, consumed.size());
+        assertEquals(producers * perProducer, unique.size());
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SingleFlightTest {
+
+    private static final int CONCURRENCY = 50;
+
+    private final SingleFlight singleFlight = new SingleFlight(mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("같은 key 로 동시에 들어온 요청은 한 번의 조회 결과를 공유한다")
+    void concurrentCallsShareOneLoad() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(SingleFlight.key("todo", 1L), () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "result";
+            })));
+        }
+        // 나머지 요청이 모두 진행 중인 조회를 기다리기 시작한 뒤에 조회를 끝낸다.
+        waitUntil(() -> singleFlight.getSharedCount() == CONCURRENCY - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("result", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.getLoadCount());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("먼저 실행한 조회가 실패하면 기다리던 요청에도 같은 예외가 전달된다")
+    void failureIsShared() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Callable<Object> call = () -> singleFlight.execute(SingleFlight.key("todo", 1L), () -> {
+            await(release);
+            throw new InvalidRequestException("Todo not found");
+        });
+
+        // when
+        Future<Object> leader = executor.submit(call);
+        waitUntil(() -> singleFlight.getLoadCount() == 1);
+        Future<Object> follower = executor.submit(call);
+        waitUntil(() -> singleFlight.getSharedCount() == 1);
+        release.countDown();
+
+        // then
+        for (Future<Object> future : List.of(leader, follower)) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(InvalidRequestException.class, exception.getCause());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회가 끝나면 key 가 제거되어 다음 요청은 다시 조회한다")
+    void keyIsReleasedAfterLoad() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        singleFlight.execute(SingleFlight.key("todo", 1L), loads::incrementAndGet);
+        singleFlight.execute(SingleFlight.key("todo", 1L), loads::incrementAndGet);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
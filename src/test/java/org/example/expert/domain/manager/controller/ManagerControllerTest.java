@@ -2,6 +2,7 @@ package org.example.expert.domain.manager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -21,6 +22,7 @@ import java.util.List;
 import java.util.stream.LongStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -75,6 +77,7 @@ class ManagerControllerTest {
                 .mapToObj(id -> new ManagerResponse(id, new UserResponse(id, "user" + id + "@example.com")))
                 .toList();
 
+        given(managerService.getManagersVersion(todoId)).willReturn(new ResourceVersion(3L, 3L));
         given(managerService.getManagers(todoId)).willReturn(responseList);
 
         // when & then
@@ -84,7 +87,23 @@ class ManagerControllerTest {
                 .andExpect(jsonPath("$.length()").value(responseList.size()))
                 .andExpect(jsonPath("$[0].id").value(responseList.get(0).getId()))
                 .andExpect(jsonPath("$[0].user.id").value(responseList.get(0).getUser().getId()))
-                .andExpect(jsonPath("$[0].user.email").value(responseList.get(0).getUser().getEmail()));
+                .andExpect(jsonPath("$[0].user.email").value(responseList.get(0).getUser().getEmail()))
+                .andExpect(header().string("ETag", "W/\"3-3\""));
+    }
+
+    @Test
+    @DisplayName("담당자 목록이 바뀌지 않았으면 본문 없이 304 를 반환한다")
+    void getMembersNotModified() throws Exception {
+        // given
+        long todoId = 1L;
+        given(managerService.getManagersVersion(todoId)).willReturn(new ResourceVersion(3L, 3L));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/managers", todoId)
+                        .header("If-None-Match", "W/\"3-3\""))
+                .andExpect(status().isNotModified());
+
+        verify(managerService, never()).getManagers(anyLong());
     }
 
     @Test
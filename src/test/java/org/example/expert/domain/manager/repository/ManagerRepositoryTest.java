@@ -0,0 +1,76 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class ManagerRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    private User user;
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+        todoId = entityManager.persist(new Todo("title", "contents", "Sunny", user)).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("담당자가 추가되면 담당자 목록의 ETag 가 바뀐다")
+    void versionChangesWhenManagerAdded() {
+        // given
+        ResourceVersion before = managerRepository.findVersionByTodoId(todoId).orElseThrow();
+        User managerUser = entityManager.persist(new User("b@b.com", "password", UserRole.USER));
+        entityManager.persist(new Manager(managerUser, entityManager.find(Todo.class, todoId)));
+        entityManager.flush();
+
+        // when
+        ResourceVersion after = managerRepository.findVersionByTodoId(todoId).orElseThrow();
+
+        // then
+        assertTrue(before.getETag().startsWith("W/\"1-"));
+        assertTrue(after.getETag().startsWith("W/\"2-"));
+        assertNotEquals(before.getETag(), after.getETag());
+    }
+
+    @Test
+    @DisplayName("일정이 없거나 삭제됐으면 버전을 조회하지 않는다")
+    void versionIsEmptyWithoutTodo() {
+        // given
+        Todo todo = entityManager.find(Todo.class, todoId);
+        todo.delete();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<ResourceVersion> deleted = managerRepository.findVersionByTodoId(todoId);
+        Optional<ResourceVersion> missing = managerRepository.findVersionByTodoId(todoId + 1000);
+
+        // then
+        assertEquals(Optional.empty(), deleted);
+        assertEquals(Optional.empty(), missing);
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.manager.service;
 
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
@@ -17,7 +18,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -37,6 +40,8 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(mock(PlatformTransactionManager.class));
     @InjectMocks
     private ManagerService managerService;
 
@@ -44,7 +49,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_InvalidRequestException를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoRepository.existsById(todoId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -82,10 +87,12 @@ class ManagerServiceTest {
         ReflectionTestUtils.setField(todo, "id", todoId);
 
         Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        List<ManagerResponse> managerList = List.of(
+                new ManagerResponse(mockManager.getId(), mockManager.getUser().getId(), mockManager.getUser().getEmail())
+        );
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
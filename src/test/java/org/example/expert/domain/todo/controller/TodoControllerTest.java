@@ -0,0 +1,115 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoChangeService;
+import org.example.expert.domain.todo.service.TodoPageCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TodoController.class)
+class TodoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TodoService todoService;
+
+    @MockBean
+    private TodoPageCache todoPageCache;
+
+    @MockBean
+    private TodoChangeService todoChangeService;
+
+    private final LocalDateTime modifiedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000);
+
+    @Test
+    @DisplayName("slice 조회 시 목록과 다음 페이지 존재 여부, 요청한 근사 전체 개수를 반환한다")
+    void getTodoSlice() throws Exception {
+        // given
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com", modifiedAt, modifiedAt);
+        given(todoService.getTodoSlice(2, 1, true)).willReturn(new SliceResponse<>(List.of(todo), 2, 1, true, 42L));
+
+        // when & then
+        mockMvc.perform(get("/todos/slice")
+                        .param("page", "2")
+                        .param("size", "1")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.page").value(2))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.approximateTotal").value(42L));
+    }
+
+    @Test
+    @DisplayName("일정 조회 시 ETag 와 Last-Modified 를 함께 반환한다")
+    void getTodoWithValidators() throws Exception {
+        // given
+        long todoId = 1L;
+        ResourceVersion version = new ResourceVersion(todoId, modifiedAt);
+        given(todoService.getTodoVersion(todoId)).willReturn(version);
+        given(todoService.getTodo(todoId)).willReturn(
+                new TodoResponse(todoId, "title", "contents", "Sunny", 1L, "a@a.com", modifiedAt, modifiedAt));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.getETag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.getLastModified() / 1000 * 1000))
+                .andExpect(jsonPath("$.id").value(todoId));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 본문을 조회하지 않고 304 를 반환한다")
+    void getTodoNotModified() throws Exception {
+        // given
+        long todoId = 1L;
+        ResourceVersion version = new ResourceVersion(todoId, modifiedAt);
+        given(todoService.getTodoVersion(todoId)).willReturn(version);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified());
+
+        verify(todoService, never()).getTodo(anyLong());
+    }
+
+    @Test
+    @DisplayName("일정이 수정되어 ETag 가 달라졌으면 새 본문을 반환한다")
+    void getTodoModified() throws Exception {
+        // given
+        long todoId = 1L;
+        ResourceVersion staleVersion = new ResourceVersion(todoId, modifiedAt);
+        LocalDateTime newModifiedAt = modifiedAt.plusNanos(1_000);
+        given(todoService.getTodoVersion(todoId)).willReturn(new ResourceVersion(todoId, newModifiedAt));
+        given(todoService.getTodo(todoId)).willReturn(
+                new TodoResponse(todoId, "title", "contents", "Sunny", 1L, "a@a.com", modifiedAt, newModifiedAt));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_NONE_MATCH, staleVersion.getETag()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("title"));
+    }
+}
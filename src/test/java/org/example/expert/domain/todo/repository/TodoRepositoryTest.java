@@ -0,0 +1,114 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class TodoRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        // 같은 modifiedAt 을 가진 일정이 섞여 있어도 id 로 순서가 결정되어야 한다.
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Todo todo = new Todo("title" + i, "contents", "Sunny", user);
+            ReflectionTestUtils.setField(todo, "modifiedAt", base.plusMinutes(i / 2));
+            todos.add(entityManager.persist(todo));
+        }
+        entityManager.persist(new Comment("comment", user, todos.get(0)));
+        entityManager.persist(new Comment("comment", user, todos.get(0)));
+        entityManager.flush();
+        entityManager.clear();
+
+        todos.stream()
+                .sorted((a, b) -> {
+                    int compare = b.getModifiedAt().compareTo(a.getModifiedAt());
+                    return compare != 0 ? compare : b.getId().compareTo(a.getId());
+                })
+                .forEach(todo -> expectedOrder.add(todo.getId()));
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 이어서 조회하면 중복이나 누락 없이 (modifiedAt, id) 역순으로 조회된다")
+    void keysetPagination() {
+        // given
+        List<Long> actualOrder = new ArrayList<>();
+
+        // when
+        List<TodoResponse> page = todoRepository.findFirstKeysetPage(Limit.of(2));
+        while (!page.isEmpty()) {
+            page.forEach(todo -> actualOrder.add(todo.getId()));
+            TodoResponse last = page.get(page.size() - 1);
+            page = todoRepository.findKeysetPageAfter(last.getModifiedAt(), last.getId(), Limit.of(2));
+        }
+
+        // then
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    @DisplayName("slice 조회는 한 건을 더 읽어 다음 페이지 존재 여부를 판단하고 마지막 페이지에서는 false 를 반환한다")
+    void sliceLookAhead() {
+        // when
+        Slice<TodoResponse> first = todoRepository.findTodoResponseSlice(PageRequest.of(0, 2));
+        Slice<TodoResponse> full = todoRepository.findTodoResponseSlice(PageRequest.of(1, 2));
+        Slice<TodoResponse> last = todoRepository.findTodoResponseSlice(PageRequest.of(2, 2));
+
+        // then
+        assertEquals(2, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertTrue(full.hasNext());
+        assertEquals(1, last.getNumberOfElements());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    @DisplayName("export 스트림은 모든 일정을 id 순으로 댓글 수와 함께 조회한다")
+    void streamExportResponsesWithCommentCount() {
+        // when
+        List<TodoExportResponse> exported;
+        try (Stream<TodoExportResponse> stream = todoRepository.streamExportResponsesWithCommentCount()) {
+            exported = stream.toList();
+        }
+
+        // then
+        assertEquals(expectedOrder.stream().sorted().toList(), exported.stream().map(TodoExportResponse::getId).toList());
+        assertEquals(2L, exported.get(0).getCommentCount());
+        assertEquals(0L, exported.get(1).getCommentCount());
+        assertEquals("a@a.com", exported.get(0).getEmail());
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoAdminServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TodoCountTracker todoCountTracker;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private TodoAdminService todoAdminService;
+
+    @BeforeEach
+    void setUp() {
+        todoAdminService = new TodoAdminService(todoRepository, managerRepository, commentRepository, userRepository,
+                todoCountTracker, eventPublisher, entityManager, objectMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("일정을 한 줄에 하나씩 NDJSON 으로 내보낸다")
+    void exportTodosAsNdjson() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(todoRepository.streamExportResponsesWithCommentCount()).willReturn(Stream.of(
+                new TodoExportResponse(1L, "title1", "contents1", "Sunny", 1L, "a@a.com", 2L, now, now),
+                new TodoExportResponse(2L, "title2", "contents2", "Rainy", 2L, "b@b.com", 0L, now, now)
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = todoAdminService.exportTodos(false, true, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("title1", first.get("title").asText());
+        assertEquals(2L, first.get("commentCount").asLong());
+        assertEquals("2025-01-01T00:00:00", first.get("createdAt").asText());
+        assertFalse(first.has("email"));
+        assertEquals("{\"id\":2,\"title\":\"title2\",\"contents\":\"contents2\",\"weather\":\"Rainy\",\"userId\":2," +
+                "\"commentCount\":0,\"createdAt\":\"2025-01-01T00:00:00\",\"modifiedAt\":\"2025-01-01T00:00:00\"}", lines[1]);
+    }
+
+    @Test
+    @DisplayName("일정 건수가 많으면 일정 간격마다 영속성 컨텍스트를 비운다")
+    void exportTodosClearsPersistenceContext() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(todoRepository.streamExportResponses()).willReturn(LongStream.rangeClosed(1, 2500)
+                .mapToObj(id -> new TodoExportResponse(id, "title", "contents", "Sunny", 1L, "a@a.com", now, now)));
+
+        // when
+        long count = todoAdminService.exportTodos(true, false, new ByteArrayOutputStream());
+
+        // then
+        assertEquals(2500, count);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("import 는 FLUSH_INTERVAL 건마다 별도 트랜잭션으로 커밋한다")
+    void importCommitsEachChunk() throws Exception {
+        // given
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> new SimpleTransactionStatus());
+        given(userRepository.findExistingIds(any())).willReturn(List.of(1L));
+        given(userRepository.getReferenceById(1L)).willReturn(new User("a@a.com", "password", UserRole.USER));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoImportResponse response = todoAdminService.importTodos(ndjson(1500, 1L));
+
+        // then
+        assertEquals(1500, response.getTodoCount());
+        verify(transactionManager, times(2)).commit(any());
+        verify(todoCountTracker).add(1000);
+        verify(todoCountTracker).add(500);
+    }
+
+    @Test
+    @DisplayName("import 중 실패하면 실패한 chunk 만 롤백되고 앞서 커밋된 chunk 는 남는다")
+    void importRollsBackOnlyFailedChunk() {
+        // given
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> new SimpleTransactionStatus());
+        given(userRepository.findExistingIds(any())).willReturn(List.of(1L)).willReturn(List.of());
+        given(userRepository.getReferenceById(1L)).willReturn(new User("a@a.com", "password", UserRole.USER));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoAdminService.importTodos(ndjson(1500, 1L)));
+
+        // then
+        assertEquals("User not found", exception.getMessage());
+        verify(transactionManager).commit(any());
+        verify(transactionManager).rollback(any());
+        verify(todoCountTracker).add(1000);
+        verify(todoCountTracker, never()).add(500);
+    }
+
+    private static ByteArrayInputStream ndjson(int count, long userId) {
+        String ndjson = IntStream.range(0, count)
+                .mapToObj(i -> "{\"userId\":" + userId + ",\"title\":\"title" + i + "\",\"contents\":\"contents\"}")
+                .collect(Collectors.joining("\n"));
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+}
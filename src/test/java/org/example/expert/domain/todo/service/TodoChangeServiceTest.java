@@ -0,0 +1,185 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoChangeResponse;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TodoChangeService.class)
+@TestPropertySource(properties = {"todo.changes.settle-delay=PT1M", "todo.changes.tombstone-retention=P1D"})
+class TodoChangeServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TodoChangeService todoChangeService;
+
+    private User user;
+    private final List<Todo> todos = new ArrayList<>();
+    private final LocalDateTime base = LocalDateTime.now().minusHours(1);
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+
+        // 같은 modifiedAt 을 가진 일정이 섞여 있어도 id 로 순서가 결정되어야 한다.
+        for (int i = 0; i < 5; i++) {
+            Todo todo = entityManager.persist(new Todo("title" + i, "contents", "Sunny", user));
+            setModifiedAt(todo, base.plusMinutes(i / 2));
+            todos.add(todo);
+        }
+    }
+
+    @Test
+    @DisplayName("since 없이 처음부터 페이지를 이어 받으면 모든 일정이 (modifiedAt, id) 순으로 한 번씩 조회된다")
+    void fullSyncAcrossPages() {
+        // given
+        List<Long> actualOrder = new ArrayList<>();
+
+        // when
+        TodoChangesResponse response = todoChangeService.getChanges(null, 2);
+        response.getChanges().forEach(change -> actualOrder.add(change.getId()));
+        while (response.isHasMore()) {
+            response = todoChangeService.getChanges(response.getCursor(), 2);
+            response.getChanges().forEach(change -> actualOrder.add(change.getId()));
+        }
+
+        // then
+        assertEquals(todos.stream().map(Todo::getId).toList(), actualOrder);
+    }
+
+    @Test
+    @DisplayName("cursor 이후 수정되거나 삭제된 일정만 반환하고 삭제는 tombstone 으로 내려준다")
+    void deltaContainsOnlyChangesAfterCursor() {
+        // given
+        String cursor = new KeysetCursor(base.plusMinutes(5), 0L).encode();
+
+        Todo updated = todos.get(1);
+        updated.update("updated", "contents");
+        setModifiedAt(updated, base.plusMinutes(10));
+
+        Todo deleted = todos.get(3);
+        deleted.delete();
+        setModifiedAt(deleted, base.plusMinutes(11));
+
+        // when
+        TodoChangesResponse response = todoChangeService.getChanges(cursor, 100);
+
+        // then
+        List<TodoChangeResponse> changes = response.getChanges();
+        assertEquals(2, changes.size());
+        assertFalse(response.isHasMore());
+
+        assertEquals(updated.getId(), changes.get(0).getId());
+        assertFalse(changes.get(0).isDeleted());
+        assertEquals("updated", changes.get(0).getTodo().getTitle());
+        assertEquals(user.getId(), changes.get(0).getTodo().getUser().getId());
+
+        assertEquals(deleted.getId(), changes.get(1).getId());
+        assertTrue(changes.get(1).isDeleted());
+        assertNull(changes.get(1).getTodo());
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 빈 목록과 함께 cursor 를 settle-delay 창 끝으로 옮긴다")
+    void noChangesAdvancesCursor() {
+        // given
+        String cursor = todoChangeService.getChanges(null, 100).getCursor();
+
+        // when
+        TodoChangesResponse response = todoChangeService.getChanges(cursor, 100);
+
+        // then
+        assertTrue(response.getChanges().isEmpty());
+        assertFalse(KeysetCursor.decode(response.getCursor()).getTimestamp()
+                .isBefore(KeysetCursor.decode(cursor).getTimestamp()));
+        assertTrue(KeysetCursor.decode(response.getCursor()).getTimestamp().isAfter(base.plusMinutes(2)));
+    }
+
+    @Test
+    @DisplayName("마지막 변경이 보존 기간보다 오래되어도 동기화 후 이어지는 요청은 만료되지 않는다")
+    void staleFeedDoesNotExpireCursor() {
+        // given
+        todos.forEach(todo -> setModifiedAt(todo, LocalDateTime.now().minusDays(2)));
+        TodoChangesResponse fullSync = todoChangeService.getChanges(null, 100);
+
+        // when
+        TodoChangesResponse firstPoll = todoChangeService.getChanges(fullSync.getCursor(), 100);
+        TodoChangesResponse secondPoll = todoChangeService.getChanges(firstPoll.getCursor(), 100);
+
+        // then
+        assertEquals(5, fullSync.getChanges().size());
+        assertTrue(firstPoll.getChanges().isEmpty());
+        assertTrue(secondPoll.getChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("일정이 하나도 없어도 처음 동기화는 cursor 를 반환한다")
+    void emptyFeedReturnsCursor() {
+        // given
+        entityManager.getEntityManager().createNativeQuery("DELETE FROM managers").executeUpdate();
+        entityManager.getEntityManager().createNativeQuery("DELETE FROM todos").executeUpdate();
+
+        // when
+        TodoChangesResponse response = todoChangeService.getChanges(null, 100);
+
+        // then
+        assertTrue(response.getChanges().isEmpty());
+        assertNotNull(response.getCursor());
+        assertTrue(todoChangeService.getChanges(response.getCursor(), 100).getChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("settle-delay 이내에 수정된 일정은 다음 요청으로 미룬다")
+    void recentChangesAreDeferred() {
+        // given
+        String cursor = todoChangeService.getChanges(null, 100).getCursor();
+        setModifiedAt(todos.get(0), LocalDateTime.now());
+
+        // when
+        TodoChangesResponse response = todoChangeService.getChanges(cursor, 100);
+
+        // then
+        assertTrue(response.getChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("tombstone 보존 기간보다 오래된 cursor 는 거부한다")
+    void expiredCursorIsRejected() {
+        // given
+        String cursor = new KeysetCursor(LocalDateTime.now().minusDays(2), 1L).encode();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoChangeService.getChanges(cursor, 100));
+        assertEquals("만료된 cursor 입니다. since 없이 처음부터 다시 동기화해 주세요.", exception.getMessage());
+    }
+
+    // auditing 이 flush 시점에 modifiedAt 을 덮어쓰므로 flush 이후 native update 로 시각을 고정한다.
+    private void setModifiedAt(Todo todo, LocalDateTime modifiedAt) {
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE todos SET modified_at = :modifiedAt WHERE id = :id")
+                .setParameter("modifiedAt", modifiedAt)
+                .setParameter("id", todo.getId())
+                .executeUpdate();
+    }
+}
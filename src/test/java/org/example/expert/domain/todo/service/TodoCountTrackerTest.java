@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountTrackerTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @InjectMocks
+    private TodoCountTracker todoCountTracker;
+
+    @Test
+    @DisplayName("처음 조회할 때 한 번만 count(*) 로 초기화하고 이후에는 캐시된 값을 반환한다")
+    void initializesLazily() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        long first = todoCountTracker.getApproximateCount();
+        long second = todoCountTracker.getApproximateCount();
+
+        // then
+        assertEquals(10L, first);
+        assertEquals(10L, second);
+        verify(todoRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("초기화된 뒤에는 저장, 삭제, 가져오기 건수만큼 증감한다")
+    void tracksIncrementDecrementAndAdd() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+        todoCountTracker.getApproximateCount();
+
+        // when
+        todoCountTracker.increment();
+        todoCountTracker.add(5);
+        todoCountTracker.decrement();
+
+        // then
+        assertEquals(15L, todoCountTracker.getApproximateCount());
+    }
+
+    @Test
+    @DisplayName("초기화 전의 증감은 무시하고 첫 조회의 count(*) 결과를 그대로 사용한다")
+    void ignoresChangesBeforeInitialization() {
+        // given
+        todoCountTracker.increment();
+        todoCountTracker.add(3);
+        given(todoRepository.count()).willReturn(7L);
+
+        // when
+        long count = todoCountTracker.getApproximateCount();
+
+        // then
+        assertEquals(7L, count);
+    }
+
+    @Test
+    @DisplayName("감소해도 0 아래로 내려가지 않는다")
+    void decrementDoesNotGoBelowZero() {
+        // given
+        given(todoRepository.count()).willReturn(0L);
+        todoCountTracker.getApproximateCount();
+
+        // when
+        todoCountTracker.decrement();
+
+        // then
+        assertEquals(0L, todoCountTracker.getApproximateCount());
+    }
+
+    @Test
+    @DisplayName("주기적 보정은 어긋난 근사값을 count(*) 결과로 되돌린다")
+    void scheduledReconcileCorrectsDrift() {
+        // given
+        given(todoRepository.count()).willReturn(10L, 12L);
+        todoCountTracker.getApproximateCount();
+        todoCountTracker.add(100);
+
+        // when
+        todoCountTracker.scheduledReconcile();
+
+        // then
+        assertEquals(12L, todoCountTracker.getApproximateCount());
+    }
+
+    @Test
+    @DisplayName("주기적 보정이 실패하면 기존 근사값을 유지한다")
+    void scheduledReconcileKeepsCountOnFailure() {
+        // given
+        given(todoRepository.count()).willReturn(10L).willThrow(new RuntimeException("db down"));
+        todoCountTracker.getApproximateCount();
+
+        // when
+        todoCountTracker.scheduledReconcile();
+
+        // then
+        assertEquals(10L, todoCountTracker.getApproximateCount());
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TodoAdminService.class, TodoCountTracker.class, PersistenceConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TodoImportTest {
+
+    @Autowired
+    private TodoAdminService todoAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long ownerId;
+    private Long commenterId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userRepository.save(new User("owner@a.com", "password", UserRole.USER)).getId();
+        commenterId = userRepository.save(new User("commenter@a.com", "password", UserRole.USER)).getId();
+    }
+
+    @Test
+    @DisplayName("NDJSON 으로 받은 일정을 담당자, 댓글과 함께 배치 insert 로 저장한다")
+    void importNdjsonWithBatching() throws Exception {
+        // given
+        String ndjson = IntStream.range(0, 20)
+                .mapToObj(i -> "{\"userId\":" + ownerId + ",\"title\":\"title" + i + "\",\"contents\":\"contents\",\"weather\":\"Sunny\"," +
+                        "\"managerUserIds\":[" + commenterId + "]," +
+                        "\"comments\":[{\"userId\":" + commenterId + ",\"contents\":\"c1\"},{\"userId\":" + ownerId + ",\"contents\":\"c2\"}]}")
+                .collect(Collectors.joining("\n"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        TodoImportResponse response = todoAdminService.importTodos(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(20, response.getTodoCount());
+        assertEquals(40, response.getManagerCount());
+        assertEquals(40, response.getCommentCount());
+        assertEquals(20, todoRepository.count());
+        assertEquals(40, managerRepository.count());
+        assertEquals(40, commentRepository.count());
+
+        // 100 건의 insert 가 행 단위가 아니라 테이블별 batch 로 실행되어야 한다.
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("JSON 배열로 받은 일정도 저장한다")
+    void importJsonArray() throws Exception {
+        // given
+        String json = "[{\"userId\":" + ownerId + ",\"title\":\"title\",\"contents\":\"contents\"}," +
+                "{\"userId\":" + commenterId + ",\"title\":\"title\",\"contents\":\"contents\"}]";
+
+        // when
+        TodoImportResponse response = todoAdminService.importTodos(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(2, response.getTodoCount());
+        assertEquals(2, response.getManagerCount());
+        assertEquals(2, todoRepository.count());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자가 포함되어 있으면 import 에 실패한다")
+    void importWithUnknownUser() {
+        // given
+        String ndjson = "{\"userId\":" + ownerId + ",\"title\":\"title\",\"contents\":\"contents\"," +
+                "\"comments\":[{\"userId\":-1,\"contents\":\"c\"}]}";
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoAdminService.importTodos(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)))
+        );
+
+        // then
+        assertEquals("User not found", exception.getMessage());
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoPageCacheTest {
+
+    private final TodoPageCache todoPageCache = new TodoPageCache(new ObjectMapper(), 2, 5, 50, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("같은 페이지를 다시 조회하면 직렬화된 응답을 재사용한다")
+    void cachedResponseIsReused() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        byte[] first = todoPageCache.getOrLoad(1, 10, () -> List.of(loads.incrementAndGet()));
+        byte[] second = todoPageCache.getOrLoad(1, 10, () -> List.of(loads.incrementAndGet()));
+
+        // then
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals("[1]", new String(second, StandardCharsets.UTF_8));
+
+        TodoPageCache.KeyStatistics statistics = todoPageCache.getStatistics().get("1:10");
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    @DisplayName("일정 변경 이벤트 이후의 조회는 새로 읽은 응답을 반환한다")
+    void changeEventInvalidates() {
+        // given
+        todoPageCache.getOrLoad(1, 10, () -> List.of("old"));
+
+        // when
+        todoPageCache.onTodoChanged(new TodoChangedEvent(1L));
+        byte[] body = todoPageCache.getOrLoad(1, 10, () -> List.of("new"));
+
+        // then
+        assertEquals("[\"new\"]", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("조회 도중 변경이 커밋되면 그 조회 결과는 다음 조회에 사용되지 않는다")
+    void loadRacingWithWriteIsNotReused() {
+        // given: 조회가 끝나기 전에 쓰기가 커밋되고 무효화된다.
+        todoPageCache.getOrLoad(1, 10, () -> {
+            todoPageCache.invalidate();
+            return List.of("stale");
+        });
+
+        // when
+        byte[] body = todoPageCache.getOrLoad(1, 10, () -> List.of("fresh"));
+
+        // then
+        assertEquals("[\"fresh\"]", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 변경 이벤트가 없어도 다시 읽는다")
+    void expiredEntryIsReloaded() {
+        // given: 다른 인스턴스의 쓰기는 이벤트로 전달되지 않는다.
+        TodoPageCache expiringCache = new TodoPageCache(new ObjectMapper(), 2, 5, 50, Duration.ZERO);
+        expiringCache.getOrLoad(1, 10, () -> List.of("old"));
+
+        // when
+        byte[] body = expiringCache.getOrLoad(1, 10, () -> List.of("new"));
+
+        // then
+        assertEquals("[\"new\"]", new String(body, StandardCharsets.UTF_8));
+        assertEquals(2, expiringCache.getStatistics().get("1:10").getMissCount());
+    }
+
+    @Test
+    @DisplayName("캐시 대상 범위를 벗어난 페이지는 저장하지 않고 최대 항목 수를 넘으면 오래된 항목을 제거한다")
+    void bounded() {
+        // when
+        todoPageCache.getOrLoad(6, 10, () -> List.of());
+        todoPageCache.getOrLoad(1, 100, () -> List.of());
+        todoPageCache.getOrLoad(1, 10, () -> List.of());
+        todoPageCache.getOrLoad(2, 10, () -> List.of());
+        todoPageCache.getOrLoad(3, 10, () -> List.of());
+
+        // then
+        assertEquals(2, todoPageCache.size());
+        assertFalse(todoPageCache.getStatistics().containsKey("6:10"));
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TodoPurger.class)
+@TestPropertySource(properties = {
+        "todo.purge.chunk-size=2",
+        "todo.purge.todo-batch-size=1",
+        "todo.changes.tombstone-retention=PT30M"
+})
+class TodoPurgerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private TodoPurger todoPurger;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    private Long deletedTodoId;
+    private Long remainingTodoId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+        User manager = entityManager.persist(new User("b@b.com", "password", UserRole.USER));
+
+        Todo deletedTodo = entityManager.persist(new Todo("deleted", "contents", "Sunny", user));
+        entityManager.persist(new Manager(manager, deletedTodo));
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(new Comment("comment" + i, user, deletedTodo));
+        }
+        deletedTodo.delete();
+        ReflectionTestUtils.setField(deletedTodo, "deletedAt", LocalDateTime.now().minusHours(1));
+
+        Todo remainingTodo = entityManager.persist(new Todo("remaining", "contents", "Sunny", user));
+        entityManager.persist(new Comment("comment", user, remainingTodo));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        deletedTodoId = deletedTodo.getId();
+        remainingTodoId = remainingTodo.getId();
+    }
+
+    @Test
+    @DisplayName("soft delete 된 일정은 조회되지 않는다")
+    void deletedTodoIsHidden() {
+        assertTrue(todoRepository.findById(deletedTodoId).isEmpty());
+        assertTrue(todoRepository.findTodoResponseById(deletedTodoId).isEmpty());
+        assertTrue(commentRepository.findFirstResponsesByTodoId(deletedTodoId, Limit.of(10)).isEmpty());
+        assertEquals(1, todoRepository.count());
+    }
+
+    @Test
+    @DisplayName("삭제된 일정의 댓글과 담당자를 chunk 단위로 지운 뒤 일정 행을 지운다")
+    void purgeDeletedTodo() {
+        // when
+        todoPurger.purge();
+
+        // then
+        assertTrue(todoRepository.findDeletedIds(LocalDateTime.now(), 10).isEmpty());
+        assertTrue(commentRepository.findIdsByTodoId(deletedTodoId, Limit.of(10)).isEmpty());
+        assertTrue(managerRepository.findIdsByTodoId(deletedTodoId, Limit.of(10)).isEmpty());
+
+        assertTrue(todoRepository.findById(remainingTodoId).isPresent());
+        assertEquals(1, commentRepository.findIdsByTodoId(remainingTodoId, Limit.of(10)).size());
+        assertEquals(1, managerRepository.findIdsByTodoId(remainingTodoId, Limit.of(10)).size());
+    }
+
+    @Test
+    @DisplayName("tombstone 보존 기간이 지나지 않은 일정은 정리하지 않는다")
+    void keepTombstoneWithinRetention() {
+        // given
+        TodoPurger retainingPurger = new TodoPurger(
+                todoRepository, commentRepository, managerRepository, 1, 2, Duration.ofDays(7));
+
+        // when
+        retainingPurger.purge();
+
+        // then
+        assertEquals(List.of(deletedTodoId), todoRepository.findDeletedIds(LocalDateTime.now(), 10));
+        assertEquals(5, commentRepository.findIdsByTodoId(deletedTodoId, Limit.of(10)).size());
+    }
+}
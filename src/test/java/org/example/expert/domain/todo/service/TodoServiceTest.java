@@ -0,0 +1,218 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.concurrent.SingleFlight;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private CommentService commentService;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoCountTracker todoCountTracker;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(mock(PlatformTransactionManager.class));
+    @InjectMocks
+    private TodoService todoService;
+
+    @Test
+    @DisplayName("일정 상세 조회 시 일정, 담당자, 첫 페이지 댓글을 함께 반환한다")
+    void getTodoDetailSuccess() {
+        // given
+        long todoId = 1L;
+        TodoResponse todo = new TodoResponse(todoId, "title", "contents", "Sunny", 1L, "a@a.com", LocalDateTime.now(), LocalDateTime.now());
+        List<ManagerResponse> managers = List.of(new ManagerResponse(1L, 1L, "a@a.com"));
+        CursorResponse<CommentResponse> comments = new CursorResponse<>(
+                List.of(new CommentResponse(1L, "contents", 1L, "a@a.com", LocalDateTime.now())),
+                "next"
+        );
+
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(Optional.of(todo));
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managers);
+        given(commentService.getComments(todoId, null, 2)).willReturn(comments);
+
+        // when
+        TodoDetailResponse result = todoService.getTodoDetail(todoId, 2);
+
+        // then
+        assertSame(todo, result.getTodo());
+        assertEquals(managers, result.getManagers());
+        assertSame(comments, result.getComments());
+    }
+
+    @Test
+    @DisplayName("일정이 없으면 담당자와 댓글을 조회하지 않는다")
+    void getTodoDetailNotFound() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.getTodoDetail(todoId, 10)
+        );
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verify(managerRepository, never()).findResponsesByTodoId(any());
+        verify(commentService, never()).getComments(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("slice 조회는 count 쿼리 없이 다음 페이지 존재 여부만 반환한다")
+    void getTodoSliceWithoutTotal() {
+        // given
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com", LocalDateTime.now(), LocalDateTime.now());
+        given(todoRepository.findTodoResponseSlice(PageRequest.of(1, 1)))
+                .willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(1, 1), true));
+
+        // when
+        SliceResponse<TodoResponse> result = todoService.getTodoSlice(2, 1, false);
+
+        // then
+        assertEquals(List.of(todo), result.getContent());
+        assertEquals(2, result.getPage());
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        assertNull(result.getApproximateTotal());
+        verify(todoRepository, never()).count();
+        verify(todoCountTracker, never()).getApproximateCount();
+    }
+
+    @Test
+    @DisplayName("withTotal 이면 slice 와 함께 근사 전체 개수를 반환한다")
+    void getTodoSliceWithApproximateTotal() {
+        // given
+        given(todoRepository.findTodoResponseSlice(PageRequest.of(0, 10)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+        given(todoCountTracker.getApproximateCount()).willReturn(42L);
+
+        // when
+        SliceResponse<TodoResponse> result = todoService.getTodoSlice(1, 10, true);
+
+        // then
+        assertFalse(result.isHasNext());
+        assertEquals(42L, result.getApproximateTotal());
+        verify(todoRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("일정 작성자는 일정을 soft delete 할 수 있다")
+    void deleteTodoSuccess() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+
+        // when
+        todoService.deleteTodo(authUser, todoId);
+
+        // then
+        assertNotNull(todo.getDeletedAt());
+        verify(todoCountTracker).decrement();
+        verify(eventPublisher).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("일정 작성자가 아니면 일정을 삭제할 수 없다")
+    void deleteTodoByOtherUser() {
+        // given
+        long todoId = 1L;
+        User owner = User.fromAuthUser(new AuthUser(1L, "a@a.com", UserRole.USER));
+        Todo todo = new Todo("title", "contents", "Sunny", owner);
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.deleteTodo(new AuthUser(2L, "b@b.com", UserRole.USER), todoId)
+        );
+
+        // then
+        assertEquals("일정을 만든 유저만 일정을 삭제할 수 있습니다.", exception.getMessage());
+        assertNull(todo.getDeletedAt());
+    }
+
+    @Test
+    @DisplayName("같은 일정에 대한 동시 조회는 한 번의 쿼리로 합쳐진다")
+    void concurrentGetTodoIsCoalesced() throws Exception {
+        // given
+        long todoId = 1L;
+        int concurrency = 100;
+        TodoResponse todo = new TodoResponse(todoId, "title", "contents", "Sunny", 1L, "a@a.com", LocalDateTime.now(), LocalDateTime.now());
+        CountDownLatch release = new CountDownLatch(1);
+        given(todoRepository.findTodoResponseById(todoId)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(todo);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        // when
+        List<Future<TodoResponse>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            results.add(executor.submit(() -> todoService.getTodo(todoId)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getSharedCount() < concurrency - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // then
+        for (Future<TodoResponse> result : results) {
+            assertSame(todo, result.get(5, TimeUnit.SECONDS));
+        }
+        verify(todoRepository, times(1)).findTodoResponseById(todoId);
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.expert.domain.todo.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "jwt.secret.key=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=")
+@DirtiesContext
+class TodoServiceTransactionTest {
+
+    private static final long WEATHER_DELAY_MILLIS = 500;
+
+    private static final AtomicBoolean serveToday = new AtomicBoolean();
+    private static final AtomicInteger weatherRequestCount = new AtomicInteger();
+    private static final List<Long> connectionHoldMillis = new CopyOnWriteArrayList<>();
+    private static final HttpServer weatherServer = startSlowWeatherServer();
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // 감사 로그 디렉터리는 인스턴스 하나만 쓸 수 있으므로 컨텍스트마다 별도 디렉터리를 씁니다.
+    @TempDir
+    static Path auditLogDirectory;
+
+    @DynamicPropertySource
+    static void weatherProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.api.url", () -> "http://localhost:" + weatherServer.getAddress().getPort());
+        registry.add("admin.audit.store.directory", auditLogDirectory::toString);
+    }
+
+    @AfterAll
+    static void stopWeatherServer() {
+        weatherServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("날씨 API 응답을 기다리는 동안 DB 커넥션을 점유하지 않는다")
+    void saveTodoDoesNotHoldConnectionDuringWeatherCall() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        serveToday.set(true);
+        connectionHoldMillis.clear();
+        int requestCountBefore = weatherRequestCount.get();
+
+        // when
+        long start = System.currentTimeMillis();
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        assertEquals("Sunny", response.getWeather());
+        assertTrue(weatherRequestCount.get() > requestCountBefore);
+        assertTrue(elapsed >= WEATHER_DELAY_MILLIS);
+        assertFalse(connectionHoldMillis.isEmpty());
+        long maxHoldMillis = connectionHoldMillis.stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertTrue(maxHoldMillis < WEATHER_DELAY_MILLIS, "connection held for " + maxHoldMillis + "ms");
+    }
+
+    // serveToday 가 켜진 뒤 도착한 요청에만 오늘 날짜 데이터를 주고, 항상 WEATHER_DELAY_MILLIS 만큼 늦게 응답한다.
+    private static HttpServer startSlowWeatherServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/f-api/weather.json", exchange -> {
+                weatherRequestCount.incrementAndGet();
+                String date = serveToday.get() ? LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd")) : "13-32";
+                sleep(WEATHER_DELAY_MILLIS);
+                byte[] body = ("[{\"date\":\"" + date + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class ConnectionHoldTimeConfig {
+
+        // 커넥션을 빌린 시점부터 반납(close)할 때까지의 시간을 기록한다.
+        @Bean
+        static BeanPostProcessor connectionHoldTimeRecorder() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws java.sql.SQLException {
+                            return recordHoldTime(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection recordHoldTime(Connection connection) {
+            long borrowedAt = System.currentTimeMillis();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName())) {
+                            connectionHoldMillis.add(System.currentTimeMillis() - borrowedAt);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @BeforeEach
+    void setUp() {
+        todoWeatherEnricher = new TodoWeatherEnricher(todoRepository, weatherClient, eventPublisher, 2);
+    }
+
+    @Test
+    @DisplayName("배치마다 날씨를 한 번 조회하고 한 번의 bulk UPDATE 로 채운다")
+    void flushEnrichesPendingTodosInBatches() {
+        // given
+        given(todoRepository.findIdsByWeather(eq(Todo.WEATHER_PENDING), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        // when
+        todoWeatherEnricher.flush();
+
+        // then
+        verify(weatherClient, times(2)).getTodayWeather();
+        verify(todoRepository).updatePendingWeather(eq(List.of(1L, 2L)), eq(Todo.WEATHER_PENDING), eq("Sunny"), any(LocalDateTime.class));
+        verify(todoRepository).updatePendingWeather(eq(List.of(3L)), eq(Todo.WEATHER_PENDING), eq("Sunny"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("날씨 조회에 실패하면 PENDING 상태를 유지한다")
+    void flushKeepsPendingWhenWeatherFails() {
+        // given
+        given(todoRepository.findIdsByWeather(eq(Todo.WEATHER_PENDING), any(Pageable.class)))
+                .willReturn(List.of(1L));
+        given(weatherClient.getTodayWeather()).willThrow(new RuntimeException("weather api down"));
+
+        // when
+        todoWeatherEnricher.flush();
+
+        // then
+        verify(todoRepository, never()).updatePendingWeather(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보강할 일정이 없으면 날씨를 조회하지 않는다")
+    void flushWithoutPendingTodos() {
+        // given
+        given(todoRepository.findIdsByWeather(eq(Todo.WEATHER_PENDING), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        todoWeatherEnricher.flush();
+
+        // then
+        verifyNoInteractions(weatherClient);
+    }
+}